@@ -0,0 +1,119 @@
+package com.scv.domain.result;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.result.domain.Result;
+import com.scv.domain.result.dto.response.ResultResponseWithImages;
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.global.json.CompressedJson;
+import com.scv.global.util.ParsingUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트 서버 분석 결과(이미지 포함 대용량 JSON) 처리
+ * parseAnalysis: saveResult 의 응답 파싱, serializeResponse: 결과 조회 응답 직렬화
+ * resultFieldGzip / resultFieldIdentity: 압축 저장된 결과 항목 응답 본문
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultJsonBenchmark {
+
+    // 이미지 필드 전체 크기 (KB)
+    @Param({"64", "512", "2048"})
+    private int imageKb;
+
+    private final ObjectMapper responseMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private String analysisJson;
+    private Result result;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int imageCnt = 30;
+        int imageBytes = imageKb * 1024 * 3 / 4 / imageCnt;
+
+        int[][] confusionMatrix = new int[10][10];
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                confusionMatrix[i][j] = i == j ? 950 + random.nextInt(50) : random.nextInt(10);
+            }
+        }
+
+        Map<String, Object> analysis = new LinkedHashMap<>();
+        analysis.put("confusion_matrix", confusionMatrix);
+        analysis.put("example_image", images(random, 10, imageBytes));
+        analysis.put("feature_activation", images(random, 10, imageBytes));
+        analysis.put("activation_maximization", images(random, 10, imageBytes));
+        analysisJson = ParsingUtil.toJson(analysis);
+
+        JsonNode root = ParsingUtil.parseJsonToNode(analysisJson);
+        result = Result.builder()
+                .id(1L)
+                .modelVersion(ModelVersion.builder().id(1L).model(Model.builder().id(1L).build()).build())
+                .code(ParsingUtil.toJson("import torch"))
+                .testAccuracy(97.5)
+                .testLoss(0.08)
+                .trainInfo(CompressedJson.of("{}"))
+                .layerParams(CompressedJson.of("[]"))
+                .confusionMatrix(CompressedJson.of(ParsingUtil.getJsonFieldAsString(root, "confusion_matrix")))
+                .exampleImg(CompressedJson.of(ParsingUtil.getJsonFieldAsString(root, "example_image")))
+                .featureActivation(CompressedJson.of(ParsingUtil.getJsonFieldAsString(root, "feature_activation")))
+                .activationMaximization(CompressedJson.of(ParsingUtil.getJsonFieldAsString(root, "activation_maximization")))
+                .build();
+    }
+
+    @Benchmark
+    public String[] parseAnalysis() {
+        JsonNode rootNode = ParsingUtil.parseJson(analysisJson, JsonNode.class);
+        return new String[]{
+                ParsingUtil.getJsonFieldAsString(rootNode, "confusion_matrix"),
+                ParsingUtil.getJsonFieldAsString(rootNode, "example_image"),
+                ParsingUtil.getJsonFieldAsString(rootNode, "feature_activation"),
+                ParsingUtil.getJsonFieldAsString(rootNode, "activation_maximization")
+        };
+    }
+
+    @Benchmark
+    public String serializeResponse() throws JsonProcessingException {
+        return responseMapper.writeValueAsString(new ResultResponseWithImages(result));
+    }
+
+    // 결과 항목 조회: gzip 을 받는 클라이언트 (저장된 바이트 그대로)
+    @Benchmark
+    public byte[] resultFieldGzip() {
+        return result.getExampleImg().gzipBytes();
+    }
+
+    // 결과 항목 조회: gzip 을 받지 않는 클라이언트 (압축 해제)
+    @Benchmark
+    public byte[] resultFieldIdentity() {
+        return result.getExampleImg().jsonBytes();
+    }
+
+    // base64 PNG 와 비슷한 크기의 난수 이미지
+    private List<Map<String, String>> images(Random random, int count, int bytes) {
+        List<Map<String, String>> images = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] image = new byte[bytes];
+            random.nextBytes(image);
+            images.add(Map.of("label", String.valueOf(i), "image", Base64.getEncoder().encodeToString(image)));
+        }
+        return images;
+    }
+}
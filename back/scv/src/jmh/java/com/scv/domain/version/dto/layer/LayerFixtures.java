@@ -0,0 +1,43 @@
+package com.scv.domain.version.dto.layer;
+
+import com.scv.domain.version.dto.layer.convolution.Conv2dDTO;
+import com.scv.domain.version.dto.layer.linear.LinearDTO;
+import com.scv.domain.version.dto.layer.nonlinear.GELUDTO;
+import com.scv.domain.version.dto.layer.nonlinear.LogSoftmaxDTO;
+import com.scv.domain.version.dto.layer.nonlinear.ReLUDTO;
+import com.scv.domain.version.dto.layer.padding.ZeroPad2dDTO;
+import com.scv.domain.version.dto.layer.pooling.MaxPool2dDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 레이어 구성
+ * 실제 사용자 모델처럼 Conv 블록을 쌓고 분류기로 끝나는 구성 (28x28 흑백 입력 기준)
+ */
+public final class LayerFixtures {
+
+    private LayerFixtures() {
+    }
+
+    /**
+     * @param blocks Conv2d + 활성화 + 패딩 블록 수 (총 레이어 수는 blocks * 3 + 7)
+     */
+    public static List<LayerDTO> cnn(int blocks) {
+        List<LayerDTO> layers = new ArrayList<>(blocks * 3 + 7);
+        layers.add(new Conv2dDTO(1, 32, 3));
+        layers.add(new ReLUDTO());
+        for (int i = 0; i < blocks; i++) {
+            layers.add(new ZeroPad2dDTO(1));
+            layers.add(new Conv2dDTO(32, 32, 3));
+            layers.add(i % 2 == 0 ? new ReLUDTO() : new GELUDTO());
+        }
+        layers.add(new MaxPool2dDTO(2, 2));
+        layers.add(new FlattenDTO());
+        layers.add(new LinearDTO(32 * 13 * 13, 128));
+        layers.add(new ReLUDTO());
+        layers.add(new LinearDTO(128, 10));
+        layers.add(new LogSoftmaxDTO(1));
+        return layers;
+    }
+}
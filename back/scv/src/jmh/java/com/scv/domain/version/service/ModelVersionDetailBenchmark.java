@@ -0,0 +1,62 @@
+package com.scv.domain.version.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.data.enums.DataSet;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.layer.LayerFixtures;
+import com.scv.domain.version.dto.response.ModelVersionDetail;
+import com.scv.domain.version.dto.response.TrainingCostResponse;
+import com.scv.global.util.ParsingUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모델 버전 상세 응답 생성 (getModelVersion 에서 DB 조회를 제외한 CPU 구간)
+ * cold: 레이어 캐시 미스(JSON 파싱 포함), warm: 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelVersionDetailBenchmark {
+
+    @Param({"1", "8", "30"})
+    private int blocks;
+
+    private final TrainingCostEstimator estimator = new TrainingCostEstimator(64, 5_000_000_000L);
+    private final ObjectMapper responseMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Data data;
+    private String layersJson;
+    private List<LayerDTO> cachedLayers;
+
+    @Setup
+    public void setUp() {
+        data = Data.builder().id(1).name(DataSet.MNIST).trainCnt(60000).testCnt(10000).labelCnt(10).epochCnt(10).build();
+        cachedLayers = List.copyOf(LayerFixtures.cnn(blocks));
+        layersJson = ParsingUtil.toJson(cachedLayers);
+    }
+
+    @Benchmark
+    public String cold() throws JsonProcessingException {
+        List<LayerDTO> layers = ParsingUtil.parseJsonToList(layersJson, LayerDTO.class);
+        return respond(layers);
+    }
+
+    @Benchmark
+    public String warm() throws JsonProcessingException {
+        return respond(cachedLayers);
+    }
+
+    private String respond(List<LayerDTO> layers) throws JsonProcessingException {
+        TrainingCostResponse trainingCost = estimator.estimate(layers, data);
+        return responseMapper.writeValueAsString(new ModelVersionDetail(1L, layers, trainingCost));
+    }
+}
@@ -0,0 +1,143 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.result.domain.Result;
+import com.scv.domain.user.domain.User;
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.global.shared.BaseEntity;
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.MySQLDialect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * cloneModelVersions 의 saveAll + flush 를 Hibernate 세션으로 재현 (MySQL 필요, -PjmhJdbcUrl 로 실행)
+ * pooled: ModelVersion 그대로 (model_version_seq 에서 50개씩 할당, insert 배치 가능)
+ * identity: 같은 테이블을 IDENTITY 로 매핑한 엔티티 (insert 마다 생성 키를 받아야 하므로 배치 불가)
+ * batchSize 1 은 hibernate.jdbc.batch_size 미사용과 같음
+ * 모든 쓰기는 롤백하므로 데이터는 남지 않음 (AUTO_INCREMENT / model_version_seq 값만 증가)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VersionCloneJpaBenchmark {
+
+    private static final String JDBC_URL_PROPERTY = "scv.bench.jdbc-url";
+    private static final int CLONE_SIZE = 50;
+
+    @State(Scope.Thread)
+    public static class Jpa {
+
+        @Param({"pooled", "identity"})
+        private String idGeneration;
+
+        @Param({"1", "50"})
+        private int batchSize;
+
+        private SessionFactory sessionFactory;
+        private Function<Model, Object> cloneFactory;
+        private long modelId;
+
+        @Setup
+        public void setUp() {
+            String url = System.getProperty(JDBC_URL_PROPERTY);
+            if (url == null) {
+                throw new IllegalStateException(JDBC_URL_PROPERTY + " 가 없습니다 (-PjmhJdbcUrl)");
+            }
+
+            // application.yml 의 jpa 설정과 같은 매핑 / 배치 옵션
+            sessionFactory = new Configuration()
+                    .addAnnotatedClass(User.class)
+                    .addAnnotatedClass(Data.class)
+                    .addAnnotatedClass(Model.class)
+                    .addAnnotatedClass(ModelVersion.class)
+                    .addAnnotatedClass(Result.class)
+                    .addAnnotatedClass(IdentityModelVersion.class)
+                    .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                    .setImplicitNamingStrategy(new SpringImplicitNamingStrategy())
+                    .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true")
+                    .setProperty(AvailableSettings.DIALECT, MySQLDialect.class.getName())
+                    .setProperty(AvailableSettings.HBM2DDL_AUTO, "none")
+                    .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                    .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                    .setProperty(AvailableSettings.BATCH_VERSIONED_DATA, "true")
+                    .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                    .buildSessionFactory();
+
+            cloneFactory = switch (idGeneration) {
+                case "pooled" -> model -> ModelVersion.builder().model(model).versionNo(0).build();
+                case "identity" -> IdentityModelVersion::new;
+                default -> throw new IllegalStateException("알 수 없는 id 할당 방식: " + idGeneration);
+            };
+
+            modelId = sessionFactory.fromSession(session -> session
+                    .createNativeQuery("SELECT model_id FROM model WHERE deleted = 0 LIMIT 1", Long.class)
+                    .uniqueResultOptional()
+                    .orElseThrow(() -> new IllegalStateException("삭제되지 않은 모델이 최소 1개 필요합니다")));
+        }
+
+        @TearDown
+        public void tearDown() {
+            sessionFactory.close();
+        }
+    }
+
+    @Benchmark
+    public int cloneSaveAll(Jpa jpa) {
+        try (Session session = jpa.sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                Model model = session.getReference(Model.class, jpa.modelId);
+                for (int i = 0; i < CLONE_SIZE; i++) {
+                    session.persist(jpa.cloneFactory.apply(model));
+                }
+                session.flush();
+                return CLONE_SIZE;
+            } finally {
+                transaction.rollback();
+            }
+        }
+    }
+
+    /**
+     * V6 이전의 IDENTITY 매핑 (model_version_id 는 여전히 AUTO_INCREMENT)
+     */
+    @Entity(name = "IdentityModelVersion")
+    @Table(name = "model_version")
+    public static class IdentityModelVersion extends BaseEntity {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "model_version_id", nullable = false)
+        private Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "model_id", nullable = false)
+        private Model model;
+
+        @Column(name = "version_no", nullable = false)
+        private int versionNo;
+
+        @Column(name = "is_working_on", nullable = false, columnDefinition = "TINYINT(1)")
+        private boolean isWorkingOn = true;
+
+        protected IdentityModelVersion() {
+        }
+
+        IdentityModelVersion(Model model) {
+            this.model = model;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.scv.domain.version.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 버전 쓰기 경로의 DB 벤치마크 (Flyway 마이그레이션이 끝난 MySQL 필요, -PjmhJdbcUrl 로 실행)
+ * allocateVersionNo: 같은 모델에 동시 저장 시 VersionNoAllocator 의 원자적 번호 발급
+ * cloneInsert: 버전 일괄 복제 insert 의 JDBC 배치 / rewriteBatchedStatements 효과
+ * 모든 쓰기는 롤백하므로 데이터는 남지 않음
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VersionWriteBenchmark {
+
+    private static final String JDBC_URL_PROPERTY = "scv.bench.jdbc-url";
+    private static final int CLONE_SIZE = 50;
+
+    @State(Scope.Thread)
+    public static class Db {
+
+        @Param({"true", "false"})
+        private boolean rewriteBatchedStatements;
+
+        private Connection connection;
+        private long modelId;
+
+        @Setup
+        public void setUp() throws SQLException {
+            String url = System.getProperty(JDBC_URL_PROPERTY);
+            if (url == null) {
+                throw new IllegalStateException(JDBC_URL_PROPERTY + " 가 없습니다 (-PjmhJdbcUrl)");
+            }
+            connection = DriverManager.getConnection(url + (url.contains("?") ? "&" : "?")
+                    + "rewriteBatchedStatements=" + rewriteBatchedStatements);
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement statement = connection.prepareStatement("SELECT model_id FROM model WHERE deleted = 0 LIMIT 1");
+                 ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new IllegalStateException("삭제되지 않은 모델이 최소 1개 필요합니다");
+                }
+                modelId = resultSet.getLong(1);
+            }
+        }
+
+        @TearDown
+        public void tearDown() throws SQLException {
+            connection.rollback();
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int allocateVersionNo(Db db) throws SQLException {
+        try (PreparedStatement update = db.connection.prepareStatement(
+                "UPDATE model SET model_latest = COALESCE(model_latest, 0) + 1 WHERE model_id = ?");
+             PreparedStatement select = db.connection.prepareStatement(
+                     "SELECT model_latest FROM model WHERE model_id = ?")) {
+            update.setLong(1, db.modelId);
+            update.executeUpdate();
+            select.setLong(1, db.modelId);
+            try (ResultSet resultSet = select.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        } finally {
+            db.connection.rollback();
+        }
+    }
+
+    @Benchmark
+    public int[] cloneInsertBatched(Db db) throws SQLException {
+        try (PreparedStatement insert = prepareInsert(db)) {
+            for (int i = 0; i < CLONE_SIZE; i++) {
+                bindInsert(insert, db.modelId);
+                insert.addBatch();
+            }
+            return insert.executeBatch();
+        } finally {
+            db.connection.rollback();
+        }
+    }
+
+    @Benchmark
+    public int cloneInsertRowByRow(Db db) throws SQLException {
+        int inserted = 0;
+        try (PreparedStatement insert = prepareInsert(db)) {
+            for (int i = 0; i < CLONE_SIZE; i++) {
+                bindInsert(insert, db.modelId);
+                inserted += insert.executeUpdate();
+            }
+            return inserted;
+        } finally {
+            db.connection.rollback();
+        }
+    }
+
+    private PreparedStatement prepareInsert(Db db) throws SQLException {
+        return db.connection.prepareStatement("INSERT INTO model_version "
+                + "(created_at, updated_at, deleted, is_working_on, layer_hash, version_no, model_id) "
+                + "VALUES (?, ?, 0, 1, NULL, 0, ?)");
+    }
+
+    private void bindInsert(PreparedStatement insert, long modelId) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insert.setTimestamp(1, now);
+        insert.setTimestamp(2, now);
+        insert.setLong(3, modelId);
+    }
+}
@@ -0,0 +1,57 @@
+package com.scv.global.jwt.util;
+
+import com.scv.global.jwt.enums.TokenStatus;
+import com.scv.global.oauth2.auth.CustomOAuth2User;
+import com.scv.global.oauth2.dto.OAuth2UserDTO;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 토큰 발급 / 파싱 / 상태 검사 (JwtVerifyFilter 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private CustomOAuth2User user;
+    private String accessToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        user = new CustomOAuth2User(OAuth2UserDTO.builder()
+                .userId(1L)
+                .userUuid("0f8fad5b-d9cb-469f-a165-70867728950e")
+                .userNickname("benchmark")
+                .userRepo("scv-models")
+                .build());
+        accessToken = JwtUtil.createAccessToken(user);
+        tamperedToken = accessToken.substring(0, accessToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return JwtUtil.createAccessToken(user);
+    }
+
+    @Benchmark
+    public Claims parseAccessTokenClaims() {
+        return JwtUtil.parseAccessTokenClaims(accessToken);
+    }
+
+    @Benchmark
+    public TokenStatus validStatus() {
+        return JwtUtil.getAccessTokenStatus(accessToken);
+    }
+
+    @Benchmark
+    public TokenStatus tamperedStatus() {
+        return JwtUtil.getAccessTokenStatus(tamperedToken);
+    }
+}
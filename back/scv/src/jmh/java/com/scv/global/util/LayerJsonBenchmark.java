@@ -0,0 +1,43 @@
+package com.scv.global.util;
+
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.layer.LayerFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LayerDTO 다형성 (역)직렬화 (LayerCache 미스, LayerStore 저장 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayerJsonBenchmark {
+
+    // Conv 블록 수 (레이어 10, 31, 97 개)
+    @Param({"1", "8", "30"})
+    private int blocks;
+
+    private List<LayerDTO> layers;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        layers = LayerFixtures.cnn(blocks);
+        json = ParsingUtil.toJson(layers);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return ParsingUtil.toJson(layers);
+    }
+
+    @Benchmark
+    public List<LayerDTO> deserialize() {
+        return ParsingUtil.parseJsonToList(json, LayerDTO.class);
+    }
+}
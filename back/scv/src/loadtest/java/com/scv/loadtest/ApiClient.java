@@ -0,0 +1,94 @@
+package com.scv.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+/**
+ * 앱 호출 + 응답 시간 기록
+ * endpoint 는 경로 변수를 뺀 템플릿 이름 (예: "GET /api/v1/models/versions/public/{versionId}")
+ */
+public class ApiClient {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public ApiClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    public Optional<JsonNode> get(String endpoint, String path, String cookie) {
+        return send(endpoint, request(path, cookie).GET());
+    }
+
+    public Optional<JsonNode> post(String endpoint, String path, String cookie, Object body) {
+        return send(endpoint, request(path, cookie).POST(body(body)));
+    }
+
+    public Optional<JsonNode> patch(String endpoint, String path, String cookie, Object body) {
+        return send(endpoint, request(path, cookie).method("PATCH", body(body)));
+    }
+
+    /**
+     * @return 2xx 면 응답 본문 (없으면 빈 노드), 아니면 empty
+     */
+    private Optional<JsonNode> send(String endpoint, HttpRequest.Builder builder) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() / 100 == 2;
+            if (!success) {
+                return Optional.empty();
+            }
+            String body = response.body();
+            return Optional.of(body == null || body.isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(body));
+        } catch (IOException e) {
+            success = false;
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            recorder.record(endpoint, System.nanoTime() - start, success);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String cookie) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        return builder;
+    }
+
+    private static HttpRequest.BodyPublisher body(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofString(body instanceof String json ? json : objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.scv.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스프링 부트 앱을 별도 JVM 으로 실행
+ * JwtUtil, AESUtil 이 환경 변수를 읽으므로 같은 프로세스가 아닌 자식 프로세스로 띄움
+ */
+public class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final Process process;
+    private final Path logFile;
+    private final String baseUrl;
+
+    private AppProcess(Process process, Path logFile, String baseUrl) {
+        this.process = process;
+        this.logFile = logFile;
+        this.baseUrl = baseUrl;
+    }
+
+    public static AppProcess start(LoadTestConfig config, EmbeddedInfrastructure infrastructure, StubServers stubs)
+            throws IOException, InterruptedException {
+        Files.createDirectories(config.workDir());
+        Path logFile = config.workDir().resolve("app.log");
+
+        // 현재 JVM 과 같은 java 실행 파일 사용 (toolchain 버전 일치)
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        for (String arg : config.appJvmArgs().trim().split("\\s+")) {
+            if (!arg.isEmpty()) {
+                command.add(arg);
+            }
+        }
+        if (config.virtualThreads()) {
+            // 가상 스레드가 캐리어에 고정된 채 대기하면 스택을 로그에 남김 (같은 스택은 한 번만)
+            command.add("-Djdk.tracePinnedThreads=short");
+        }
+        command.add("-cp");
+        command.add(config.appClasspath());
+        command.add("com.scv.ScvApplication");
+        command.add("--server.port=" + config.appPort());
+        command.add("--spring.jpa.show-sql=false");
+
+        return launch(command, environment(config, infrastructure, stubs), logFile, config.appPort(), Duration.ofSeconds(1));
+    }
+
+    /**
+     * 실행 명령을 직접 지정해 기동하고 readiness 가 200 이 될 때까지 대기 (기동 시간 측정용)
+     */
+    static AppProcess launch(List<String> command, Map<String, String> environment, Path logFile, int port, Duration pollInterval)
+            throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        builder.environment().putAll(environment);
+
+        AppProcess app = new AppProcess(builder.start(), logFile, "http://localhost:" + port);
+        app.awaitHealthy(pollInterval);
+        return app;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public long pid() {
+        return process.pid();
+    }
+
+    /**
+     * jdk.tracePinnedThreads 로 기록된 캐리어 고정 지점 (모니터를 잡은 프레임)
+     */
+    public List<String> pinnedFrames() throws IOException {
+        // 스택 프레임은 ASCII 라 로그 인코딩과 상관없이 읽히도록 ISO-8859-1 로 읽음
+        return Files.readAllLines(logFile, StandardCharsets.ISO_8859_1).stream()
+                .filter(line -> line.contains("<== monitors"))
+                .map(String::trim)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(20, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private void awaitHealthy(Duration pollInterval) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("앱이 종료되었습니다 (exit " + process.exitValue() + "), 로그: " + logFile);
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(pollInterval.toMillis());
+        }
+        close();
+        throw new IllegalStateException("앱이 " + STARTUP_TIMEOUT.toSeconds() + "초 안에 기동되지 않았습니다, 로그: " + logFile);
+    }
+
+    static Map<String, String> environment(LoadTestConfig config, EmbeddedInfrastructure infrastructure, StubServers stubs) {
+        String redisPort = String.valueOf(infrastructure.redisPort());
+
+        Map<String, String> env = new LinkedHashMap<>();
+        env.put("DB_URL", infrastructure.jdbcUrl());
+        env.put("DB_USERNAME", "root");
+        env.put("DB_PASSWORD", "");
+        for (String redis : List.of("ACCESS_MASTER", "ACCESS_SLAVE1", "ACCESS_SLAVE2", "ACCESS_SLAVE3", "REFRESH_MASTER", "OAUTH_MASTER")) {
+            env.put("REDIS_" + redis + "_HOST", "localhost");
+            env.put("REDIS_" + redis + "_PORT", redisPort);
+            env.put("REDIS_" + redis + "_PASSWORD", "");
+        }
+
+        env.put("FAST_MODEL_TRAIN_HOST_NAME", "localhost");
+        env.put("FAST_MODEL_TRAIN_PORT", String.valueOf(stubs.trainPort()));
+        env.put("FAST_MODEL_TRAIN_MAX_CONCURRENT", String.valueOf(config.trainConcurrency()));
+        env.put("FAST_MODEL_TEST_HOST_NAME", "localhost");
+        env.put("FAST_MODEL_TEST_PORT", String.valueOf(stubs.analyzePort()));
+        env.put("FAST_SEARCH_HOST_NAME", "localhost");
+        env.put("FAST_SEARCH_PORT", String.valueOf(stubs.searchPort()));
+        env.put("GITHUB_API_URL", stubs.githubUrl());
+
+        // OAuth 로그인은 사용하지 않음 (토큰은 트래픽 생성기가 직접 발급)
+        env.put("OAUTH_CLIENT_ID", "loadtest");
+        env.put("OAUTH_CLIENT_SECRET", "loadtest");
+        env.put("OAUTH_REDIRECT_URI", "http://localhost/loadtest");
+        env.put("ACTUATOR_PASSWORD", "loadtest");
+
+        env.put("ARCHIVE_ENABLED", "false");
+        env.put("HIBERNATE_STATISTICS", "false");
+        env.put("VIRTUAL_THREADS_ENABLED", String.valueOf(config.virtualThreads()));
+        // 스팬은 만들되 수집기가 없으면 전송하지 않음 (수집기를 띄웠다면 환경변수로 비율 지정)
+        env.put("TRACING_SAMPLING_PROBABILITY", System.getenv().getOrDefault("TRACING_SAMPLING_PROBABILITY", "0"));
+        return env;
+    }
+}
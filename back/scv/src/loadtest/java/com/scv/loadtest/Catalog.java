@@ -0,0 +1,70 @@
+package com.scv.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트래픽 생성에 쓰는 사용자, 모델, 버전 id (학습 시나리오가 새 버전을 계속 추가)
+ */
+public class Catalog {
+
+    private final List<SeedUser> users = new CopyOnWriteArrayList<>();
+    private final List<Long> modelIds = new CopyOnWriteArrayList<>();
+    private final List<Long> versionIds = new CopyOnWriteArrayList<>();
+    private final Map<Long, List<OwnedModel>> ownedModels = new ConcurrentHashMap<>();
+
+    public void addUser(SeedUser user) {
+        users.add(user);
+        ownedModels.put(user.userId(), new CopyOnWriteArrayList<>());
+    }
+
+    public void addModel(SeedUser owner, OwnedModel model) {
+        ownedModels.get(owner.userId()).add(model);
+        modelIds.add(model.modelId());
+        versionIds.add(model.latestVersionId().get());
+    }
+
+    public void addVersion(long versionId) {
+        versionIds.add(versionId);
+    }
+
+    public SeedUser user(int index) {
+        return users.get(index % users.size());
+    }
+
+    public long randomModelId() {
+        return random(modelIds);
+    }
+
+    public long randomVersionId() {
+        return random(versionIds);
+    }
+
+    // 시드 중 학습에 실패한 사용자는 모델이 없을 수 있음
+    public Optional<OwnedModel> randomOwnedModel(SeedUser user) {
+        List<OwnedModel> models = ownedModels.get(user.userId());
+        return models.isEmpty() ? Optional.empty() : Optional.of(random(models));
+    }
+
+    public int modelCount() {
+        return modelIds.size();
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    /**
+     * @param cookie 엑세스 토큰 쿠키 ("이름=값")
+     */
+    public record SeedUser(long userId, String userUuid, String nickname, String cookie) {
+    }
+
+    public record OwnedModel(long modelId, String modelName, String dataName, AtomicLong latestVersionId) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.scv.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 내장 MariaDB (Flyway 마이그레이션을 그대로 적용) 와 내장 Redis
+ * Redis 는 인스턴스 하나로 access / refresh / oauth 토큰 저장소를 모두 대신함
+ */
+public class EmbeddedInfrastructure implements AutoCloseable {
+
+    private static final String DATABASE_NAME = "scv";
+
+    private final DB database;
+    private final int databasePort;
+    private final RedisServer redisServer;
+    private final int redisPort;
+
+    private EmbeddedInfrastructure(DB database, int databasePort, RedisServer redisServer, int redisPort) {
+        this.database = database;
+        this.databasePort = databasePort;
+        this.redisServer = redisServer;
+        this.redisPort = redisPort;
+    }
+
+    public static EmbeddedInfrastructure start(Path workDir) throws ManagedProcessException, IOException {
+        // 경로를 직접 지정하면 종료 시 데이터가 남으므로 실행마다 비운 상태에서 시작
+        deleteRecursively(workDir.resolve("mariadb/data"));
+
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        config.setBaseDir(workDir.resolve("mariadb/base").toFile());
+        config.setDataDir(workDir.resolve("mariadb/data").toFile());
+        config.setTmpDir(workDir.resolve("mariadb/tmp").toString());
+        config.setDeletingTemporaryBaseAndDataDirsOnShutdown(true);
+        // root 계정으로 실행되는 CI / 컨테이너에서도 기동되도록
+        config.addArg("--user=" + System.getProperty("user.name"));
+        config.addArg("--max-connections=500");
+
+        DB database = DB.newEmbeddedDB(config.build());
+        database.start();
+        database.createDB(DATABASE_NAME);
+
+        int redisPort = freePort();
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        return new EmbeddedInfrastructure(database, config.getPort(), redisServer, redisPort);
+    }
+
+    // 앱은 MySQL 드라이버를 사용 (MariaDB 는 MySQL 프로토콜 호환)
+    public String jdbcUrl() {
+        return "jdbc:mysql://localhost:" + databasePort + "/" + DATABASE_NAME + "?useSSL=false&allowPublicKeyRetrieval=true";
+    }
+
+    public int redisPort() {
+        return redisPort;
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            redisServer.stop();
+        } finally {
+            database.stop();
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.scv.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록 (측정 구간에서만 기록, 워밍업 / 시드 단계는 제외)
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+
+    public void startMeasuring() {
+        samples.clear();
+        measuring = true;
+    }
+
+    public void stopMeasuring() {
+        measuring = false;
+    }
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        if (measuring) {
+            samples.computeIfAbsent(endpoint, key -> new Samples()).add(elapsedNanos, success);
+        }
+    }
+
+    /**
+     * @param seconds 측정 시간 (처리량 계산용)
+     */
+    public Map<String, EndpointStats> snapshot(double seconds) {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        samples.forEach((endpoint, endpointSamples) -> stats.put(endpoint, endpointSamples.stats(seconds)));
+        return stats;
+    }
+
+    public record EndpointStats(long count, long errors, double throughput,
+                                double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointStats stats(double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new EndpointStats(size, errors, size / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1_000_000.0);
+        }
+
+        // nearest-rank
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.scv.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, Gradle 에서는 -Ploadtest.<이름>=값)
+ *
+ * @param appPort           앱 포트
+ * @param users             동시 가상 사용자 수
+ * @param seedUsers         미리 만들 사용자 수 (가상 사용자는 이 중 하나로 로그인)
+ * @param modelsPerUser     사용자별로 미리 학습시켜 둘 모델 수
+ * @param warmup            측정 전 워밍업 시간
+ * @param duration          측정 시간
+ * @param trainLatency      학습 서버 응답 지연
+ * @param analyzeLatency    테스트(분석) 서버 응답 지연
+ * @param searchLatency     벡터 DB 서버 응답 지연
+ * @param githubLatency     GitHub API 응답 지연
+ * @param latencyJitter     스텁 지연의 무작위 편차 비율 (0.2 = ±20%)
+ * @param analyzeImageKb    분석 결과 이미지 필드 전체 크기
+ * @param trainEpochs       학습 결과의 에폭별 기록 수
+ * @param trainConcurrency  앱의 동시 학습 수 (FAST_MODEL_TRAIN_MAX_CONCURRENT)
+ * @param virtualThreads    앱을 가상 스레드 모드로 실행 (VIRTUAL_THREADS_ENABLED, 캐리어 고정 추적 포함)
+ * @param mix               시나리오별 가중치
+ * @param appJvmArgs        앱 JVM 옵션
+ * @param appClasspath      앱 런타임 클래스패스
+ * @param workDir           로그, 내장 DB 데이터 디렉터리
+ * @param outputDir         결과 JSON 디렉터리
+ * @param resultName        결과 파일 이름
+ * @param compareTo         비교할 이전 결과 파일 이름 (없으면 null)
+ */
+public record LoadTestConfig(
+        int appPort,
+        int users,
+        int seedUsers,
+        int modelsPerUser,
+        Duration warmup,
+        Duration duration,
+        Duration trainLatency,
+        Duration analyzeLatency,
+        Duration searchLatency,
+        Duration githubLatency,
+        double latencyJitter,
+        int analyzeImageKb,
+        int trainEpochs,
+        int trainConcurrency,
+        boolean virtualThreads,
+        Map<Scenario, Integer> mix,
+        String appJvmArgs,
+        String appClasspath,
+        Path workDir,
+        Path outputDir,
+        String resultName,
+        String compareTo
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intValue("app-port", 18080),
+                intValue("users", 32),
+                intValue("seed-users", 10),
+                intValue("models-per-user", 3),
+                Duration.ofSeconds(intValue("warmup-seconds", 15)),
+                Duration.ofSeconds(intValue("duration-seconds", 60)),
+                Duration.ofMillis(intValue("train-latency-ms", 1500)),
+                Duration.ofMillis(intValue("analyze-latency-ms", 300)),
+                Duration.ofMillis(intValue("search-latency-ms", 20)),
+                Duration.ofMillis(intValue("github-latency-ms", 150)),
+                Double.parseDouble(value("latency-jitter", "0.2")),
+                intValue("analyze-image-kb", 256),
+                intValue("train-epochs", 10),
+                intValue("train-concurrency", 4),
+                Boolean.parseBoolean(value("virtual-threads", "false")),
+                mix(value("mix", "gallery=50,model-detail=10,version-detail=25,train=10,export=5")),
+                value("app-jvm-args", "-Xmx1g"),
+                required("app-classpath"),
+                Path.of(value("work-dir", "build/loadtest")),
+                Path.of(value("output-dir", "loadtest-results")),
+                value("result-name", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))),
+                value("compare-to", null));
+    }
+
+    // "gallery=50,train=10" 형식
+    private static Map<Scenario, Integer> mix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식 오류: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.fromName(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 가중치가 있는 시나리오가 없습니다");
+        }
+        return mix;
+    }
+
+    private static int intValue(String name, int defaultValue) {
+        return Integer.parseInt(value(name, String.valueOf(defaultValue)));
+    }
+
+    private static String value(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(PREFIX + name + " 가 필요합니다 (./gradlew loadtest 로 실행)");
+        }
+        return value;
+    }
+}
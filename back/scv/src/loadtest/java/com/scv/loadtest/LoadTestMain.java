@@ -0,0 +1,37 @@
+package com.scv.loadtest;
+
+/**
+ * 오프라인 부하 테스트 (./gradlew loadtest)
+ * 내장 MariaDB / Redis 와 스텁 서버 기동 -> 앱 기동 -> 시드 -> 워밍업 / 측정 -> 결과 출력
+ * <p>
+ * 스레드 모드 비교:
+ * ./gradlew loadtest -Ploadtest.result-name=platform
+ * ./gradlew loadtest -Ploadtest.virtual-threads=true -Ploadtest.result-name=virtual -Ploadtest.compare-to=platform
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        System.out.println("내장 DB / Redis 기동");
+        try (EmbeddedInfrastructure infrastructure = EmbeddedInfrastructure.start(config.workDir());
+             StubServers stubs = new StubServers(config)) {
+            stubs.start();
+
+            System.out.println("앱 기동 (로그: " + config.workDir().resolve("app.log") + ")");
+            try (AppProcess app = AppProcess.start(config, infrastructure, stubs)) {
+                UserActions actions = new UserActions(new ApiClient(app.baseUrl(), recorder));
+
+                System.out.println("시드 데이터 생성 (사용자 " + config.seedUsers() + ", 사용자당 모델 " + config.modelsPerUser() + ")");
+                Catalog catalog = new Seeder(config, infrastructure, actions).seed();
+
+                System.out.println("트래픽 생성 (가상 사용자 " + config.users() + ", 워밍업 " + config.warmup().toSeconds()
+                        + "초, 측정 " + config.duration().toSeconds() + "초)");
+                double seconds = new TrafficDriver(config, catalog, actions, recorder).run();
+
+                LoadTestReport.write(config, recorder.snapshot(seconds), seconds, app.pinnedFrames());
+            }
+        }
+    }
+}
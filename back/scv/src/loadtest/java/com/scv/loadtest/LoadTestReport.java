@@ -0,0 +1,107 @@
+package com.scv.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.scv.loadtest.LatencyRecorder.EndpointStats;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 처리량 / 지연시간 출력 및 JSON 저장 (실행 간 비교용)
+ */
+public final class LoadTestReport {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadTestReport() {
+    }
+
+    public static Path write(LoadTestConfig config, Map<String, EndpointStats> stats, double seconds, List<String> pinnedFrames) throws IOException {
+        print(stats, seconds);
+        if (config.virtualThreads()) {
+            System.out.printf("%n캐리어 고정 지점 %d곳%n", pinnedFrames.size());
+            pinnedFrames.forEach(frame -> System.out.println("  " + frame));
+        }
+        if (config.compareTo() != null) {
+            printComparison(config.outputDir().resolve(config.compareTo() + ".json"), stats);
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("users", config.users());
+        settings.put("seedUsers", config.seedUsers());
+        settings.put("modelsPerUser", config.modelsPerUser());
+        settings.put("durationSeconds", seconds);
+        settings.put("trainLatencyMs", config.trainLatency().toMillis());
+        settings.put("analyzeLatencyMs", config.analyzeLatency().toMillis());
+        settings.put("searchLatencyMs", config.searchLatency().toMillis());
+        settings.put("githubLatencyMs", config.githubLatency().toMillis());
+        settings.put("latencyJitter", config.latencyJitter());
+        settings.put("analyzeImageKb", config.analyzeImageKb());
+        settings.put("trainConcurrency", config.trainConcurrency());
+        settings.put("virtualThreads", config.virtualThreads());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((scenario, weight) -> mix.put(scenario.getScenarioName(), weight));
+        settings.put("mix", mix);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("name", config.resultName());
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("config", settings);
+        report.put("endpoints", stats);
+        report.put("pinnedFrames", pinnedFrames);
+
+        Files.createDirectories(config.outputDir());
+        Path file = config.outputDir().resolve(config.resultName() + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        System.out.println("결과 저장: " + file);
+        return file;
+    }
+
+    private static void print(Map<String, EndpointStats> stats, double seconds) {
+        String format = "%-62s %8s %7s %9s %9s %9s %9s %9s%n";
+        System.out.printf("%n측정 시간 %.1f초%n", seconds);
+        System.out.printf(format, "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        stats.forEach((endpoint, stat) -> System.out.printf(format, endpoint,
+                stat.count(), stat.errors(),
+                String.format("%.1f", stat.throughput()),
+                String.format("%.1f", stat.p50Ms()),
+                String.format("%.1f", stat.p95Ms()),
+                String.format("%.1f", stat.p99Ms()),
+                String.format("%.1f", stat.maxMs())));
+    }
+
+    // 이전 실행(예: 플랫폼 스레드 모드)과 엔드포인트별 처리량 / p95 / p99 비교
+    private static void printComparison(Path baseline, Map<String, EndpointStats> stats) throws IOException {
+        if (!Files.exists(baseline)) {
+            System.out.println("비교할 결과가 없습니다: " + baseline);
+            return;
+        }
+        JsonNode base = objectMapper.readTree(baseline.toFile());
+        JsonNode baseEndpoints = base.path("endpoints");
+
+        String format = "%-62s %19s %21s %21s%n";
+        System.out.printf("%n비교 대상 %s (virtualThreads=%s)%n", base.path("name").asText(), base.path("config").path("virtualThreads").asText("false"));
+        System.out.printf(format, "endpoint", "req/s", "p95(ms)", "p99(ms)");
+        stats.forEach((endpoint, stat) -> {
+            JsonNode before = baseEndpoints.path(endpoint);
+            if (before.isMissingNode()) {
+                return;
+            }
+            System.out.printf(format, endpoint,
+                    change(before.path("throughput").asDouble(), stat.throughput()),
+                    change(before.path("p95Ms").asDouble(), stat.p95Ms()),
+                    change(before.path("p99Ms").asDouble(), stat.p99Ms()));
+        });
+    }
+
+    private static String change(double before, double after) {
+        return String.format("%.1f -> %.1f", before, after);
+    }
+}
@@ -0,0 +1,41 @@
+package com.scv.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 가상 사용자가 한 번에 수행하는 행동 단위
+ */
+public enum Scenario {
+
+    // 전체 모델 목록 탐색 (페이지 이동, 데이터셋 필터)
+    GALLERY("gallery"),
+
+    // 모델 상세 (버전 목록)
+    MODEL_DETAIL("model-detail"),
+
+    // 버전 상세 (레이어, 학습 비용, 결과 이미지)
+    VERSION_DETAIL("version-detail"),
+
+    // 새 버전 생성 -> 레이어 수정 -> 학습 -> 결과 저장
+    TRAIN("train"),
+
+    // 버전 코드를 GitHub 로 export
+    EXPORT("export");
+
+    private final String scenarioName;
+
+    Scenario(String scenarioName) {
+        this.scenarioName = scenarioName;
+    }
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    public static Scenario fromName(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.scenarioName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오: " + name));
+    }
+}
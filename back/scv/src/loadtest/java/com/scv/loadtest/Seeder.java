@@ -0,0 +1,141 @@
+package com.scv.loadtest;
+
+import com.scv.global.jwt.util.JwtUtil;
+import com.scv.global.oauth2.auth.CustomOAuth2User;
+import com.scv.global.oauth2.dto.OAuth2UserDTO;
+import com.scv.global.util.AESUtil;
+import com.scv.loadtest.Catalog.OwnedModel;
+import com.scv.loadtest.Catalog.SeedUser;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 전 데이터 준비
+ * 사용자는 OAuth 로그인을 거치지 않도록 DB 와 Redis(GitHub 토큰) 에 직접 넣고, 모델 / 학습 결과는 API 로 생성
+ */
+public class Seeder {
+
+    private static final String REPO_NAME = "scv-models";
+
+    private final LoadTestConfig config;
+    private final EmbeddedInfrastructure infrastructure;
+    private final UserActions actions;
+
+    public Seeder(LoadTestConfig config, EmbeddedInfrastructure infrastructure, UserActions actions) {
+        this.config = config;
+        this.infrastructure = infrastructure;
+        this.actions = actions;
+    }
+
+    public Catalog seed() throws Exception {
+        Catalog catalog = new Catalog();
+        List<SeedUser> users = insertUsers();
+        storeGithubTokens(users);
+        users.forEach(catalog::addUser);
+
+        // 사용자별로 병렬 생성 (학습 스텁 지연 때문에 순차로는 오래 걸림)
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (SeedUser user : users) {
+                futures.add(executor.submit(() -> seedModels(catalog, user)));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.MINUTES);
+            }
+        }
+
+        if (catalog.modelCount() == 0) {
+            throw new IllegalStateException("시드 모델을 만들지 못했습니다 (앱 로그 확인: " + config.workDir().resolve("app.log") + ")");
+        }
+        return catalog;
+    }
+
+    private void seedModels(Catalog catalog, SeedUser user) {
+        for (int i = 0; i < config.modelsPerUser(); i++) {
+            String dataName = UserActions.DATA_SETS[(int) ((user.userId() + i) % UserActions.DATA_SETS.length)];
+            actions.createModel(user, "lt-u" + user.userId() + "-m" + i, dataName)
+                    .filter(model -> actions.train(user, model, model.latestVersionId().get()))
+                    .ifPresent(model -> catalog.addModel(user, model));
+        }
+    }
+
+    // user_id 는 pooled 시퀀스(user_seq) 범위와 겹치지 않도록 시드 후 next_val 을 올림
+    private List<SeedUser> insertUsers() throws SQLException {
+        List<SeedUser> users = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try (Connection connection = DriverManager.getConnection(infrastructure.jdbcUrl(), "root", "")) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO user "
+                    + "(user_id, user_created_at, user_email, user_image_url, user_is_deleted, user_nickname, user_repo, user_updated_at, user_uuid) "
+                    + "VALUES (?, ?, ?, ?, 0, ?, ?, ?, ?)")) {
+                for (long userId = 1; userId <= config.seedUsers(); userId++) {
+                    String uuid = UUID.randomUUID().toString();
+                    String nickname = "loadtest" + userId;
+                    insert.setLong(1, userId);
+                    insert.setTimestamp(2, now);
+                    insert.setString(3, nickname + "@scv.local");
+                    insert.setString(4, "https://avatars.githubusercontent.com/u/" + userId);
+                    insert.setString(5, nickname);
+                    insert.setString(6, REPO_NAME);
+                    insert.setTimestamp(7, now);
+                    insert.setString(8, uuid);
+                    insert.addBatch();
+                    users.add(new SeedUser(userId, uuid, nickname, accessTokenCookie(userId, uuid, nickname)));
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement sequence = connection.prepareStatement("UPDATE user_seq SET next_val = GREATEST(next_val, ?)")) {
+                sequence.setLong(1, config.seedUsers() + 51L);
+                sequence.executeUpdate();
+            }
+        }
+        return users;
+    }
+
+    // RedisOAuth2AuthorizedClientService 와 같은 키 / 직렬화 형식
+    private void storeGithubTokens(List<SeedUser> users) {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", infrastructure.redisPort()));
+        connectionFactory.afterPropertiesSet();
+        try {
+            RedisTemplate<String, Object> template = new RedisTemplate<>();
+            template.setConnectionFactory(connectionFactory);
+            template.setKeySerializer(new StringRedisSerializer());
+            template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+            template.afterPropertiesSet();
+
+            for (SeedUser user : users) {
+                template.opsForValue().set("github:" + user.userUuid(), AESUtil.encrypt("gho_loadtest_" + user.userId()), 1, TimeUnit.DAYS);
+            }
+        } finally {
+            connectionFactory.destroy();
+        }
+    }
+
+    private String accessTokenCookie(long userId, String uuid, String nickname) {
+        CustomOAuth2User user = new CustomOAuth2User(OAuth2UserDTO.builder()
+                .userId(userId)
+                .userUuid(uuid)
+                .userNickname(nickname)
+                .userRepo(REPO_NAME)
+                .build());
+        return JwtUtil.ACCESS_TOKEN_NAME + "=" + JwtUtil.createAccessToken(user);
+    }
+}
@@ -0,0 +1,238 @@
+package com.scv.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 빠른 기동 변형별 기동 시간 / RSS 비교 (./gradlew startupBenchmark)
+ * 부하 테스트와 같은 내장 DB / Redis, 스텁 서버를 쓰고 변형마다 앱을 여러 번 띄워 중앙값을 기록
+ * <p>
+ * jar: java -jar 그대로
+ * extracted: jarmode=tools 로 압축 해제한 레이아웃 (중첩 jar 로딩 비용 제거)
+ * extracted-cds: 압축 해제 + 학습 실행으로 만든 CDS 아카이브
+ * aot-cds: AOT 처리된 빈 정의 + CDS (-PfastStartup 으로 빌드한 jar 일 때만)
+ * native: GraalVM 네이티브 이미지 (nativeCompile 결과가 있을 때만)
+ */
+public class StartupBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Pattern STARTED = Pattern.compile("Started ScvApplication in ([0-9.]+) seconds");
+    private static final Pattern RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+    private static final String AOT_INITIALIZER = "BOOT-INF/classes/com/scv/ScvApplication__ApplicationContextInitializer.class";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private final LoadTestConfig config;
+    private final Map<String, String> environment;
+    private final String java;
+    private final Path workDir;
+
+    private StartupBenchmark(LoadTestConfig config, Map<String, String> environment) {
+        this.config = config;
+        this.environment = environment;
+        this.java = ProcessHandle.current().info().command().orElse("java");
+        this.workDir = config.workDir();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        int runs = Integer.parseInt(System.getProperty("startup.runs", "3"));
+        Path jar = Path.of(required("startup.jar"));
+        Path nativeImage = Path.of(System.getProperty("startup.native-image", "build/native/nativeCompile/scv"));
+        Path outputDir = Path.of(System.getProperty("startup.output-dir", "startup-results"));
+        String resultName = System.getProperty("startup.result-name",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+
+        System.out.println("내장 DB / Redis 기동");
+        try (EmbeddedInfrastructure infrastructure = EmbeddedInfrastructure.start(config.workDir());
+             StubServers stubs = new StubServers(config)) {
+            stubs.start();
+            StartupBenchmark benchmark = new StartupBenchmark(config, AppProcess.environment(config, infrastructure, stubs));
+
+            // 첫 기동의 Flyway 마이그레이션이 측정에 섞이지 않도록 한 번 띄워 둠
+            System.out.println("마이그레이션 적용");
+            benchmark.measure("migrate", benchmark.javaCommand(List.of(), List.of("-jar", jar.toString())));
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            results.put("jar", benchmark.run("jar", runs, benchmark.javaCommand(List.of(), List.of("-jar", jar.toString()))));
+
+            Path extracted = benchmark.extract(jar);
+            List<String> extractedJar = List.of("-jar", extracted.toString());
+            results.put("extracted", benchmark.run("extracted", runs, benchmark.javaCommand(List.of(), extractedJar)));
+
+            Path archive = benchmark.trainCds(extracted, "app.jsa", List.of());
+            results.put("extracted-cds", benchmark.run("extracted-cds", runs,
+                    benchmark.javaCommand(List.of("-XX:SharedArchiveFile=" + archive), extractedJar)));
+
+            if (hasAotInitializer(jar)) {
+                List<String> aot = List.of("-Dspring.aot.enabled=true");
+                Path aotArchive = benchmark.trainCds(extracted, "app-aot.jsa", aot);
+                List<String> options = new ArrayList<>(aot);
+                options.add("-XX:SharedArchiveFile=" + aotArchive);
+                results.put("aot-cds", benchmark.run("aot-cds", runs, benchmark.javaCommand(options, extractedJar)));
+            } else {
+                System.out.println("AOT 처리되지 않은 jar 라 aot-cds 는 건너뜀 (./gradlew -PfastStartup startupBenchmark)");
+            }
+
+            if (Files.isExecutable(nativeImage)) {
+                List<String> command = new ArrayList<>();
+                command.add(nativeImage.toString());
+                command.addAll(benchmark.appArgs());
+                results.put("native", benchmark.run("native", runs, command));
+            } else {
+                System.out.println("네이티브 이미지가 없어 native 는 건너뜀 (" + nativeImage + ")");
+            }
+
+            Files.createDirectories(outputDir);
+            Path file = outputDir.resolve(resultName + ".json");
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("name", resultName);
+            report.put("finishedAt", LocalDateTime.now().toString());
+            report.put("runs", runs);
+            report.put("appJvmArgs", config.appJvmArgs());
+            report.put("variants", results);
+            objectMapper.writeValue(file.toFile(), report);
+            System.out.println("결과 저장: " + file);
+        }
+    }
+
+    private VariantStats run(String variant, int runs, List<String> command) throws IOException, InterruptedException {
+        List<Sample> samples = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            samples.add(measure(variant + "-" + i, command));
+        }
+        VariantStats stats = VariantStats.of(samples);
+        System.out.printf("%-14s ready %7.0f ms  started %7.0f ms  rss %6.1f MB%n",
+                variant, stats.readyMs(), stats.startedMs(), stats.rssMb());
+        return stats;
+    }
+
+    // readiness 가 200 을 응답할 때까지의 시간, 스프링이 기록한 기동 시간, 그 시점의 RSS
+    private Sample measure(String name, List<String> command) throws IOException, InterruptedException {
+        Files.createDirectories(workDir);
+        Path logFile = workDir.resolve(name + ".log");
+        long start = System.nanoTime();
+        try (AppProcess app = AppProcess.launch(command, environment, logFile, config.appPort(), POLL_INTERVAL)) {
+            double readyMs = (System.nanoTime() - start) / 1_000_000.0;
+            return new Sample(readyMs, startedMs(logFile), rssMb(app.pid()));
+        }
+    }
+
+    // Spring Boot 3.3 의 jarmode=tools 로 압축 해제 (lib/ 와 실행용 jar)
+    private Path extract(Path jar) throws IOException, InterruptedException {
+        Path destination = workDir.resolve("extracted");
+        exec(List.of(java, "-Djarmode=tools", "-jar", jar.toString(), "extract", "--force", "--destination", destination.toString()),
+                workDir.resolve("extract.log"));
+        return destination.resolve(jar.getFileName());
+    }
+
+    // 컨텍스트 refresh 직후 종료하는 학습 실행으로 로딩된 클래스를 아카이브에 기록
+    private Path trainCds(Path extractedJar, String archiveName, List<String> options) throws IOException, InterruptedException {
+        Path archive = workDir.resolve(archiveName);
+        List<String> trainOptions = new ArrayList<>(options);
+        trainOptions.add("-XX:ArchiveClassesAtExit=" + archive);
+        trainOptions.add("-Dspring.context.exit=onRefresh");
+        System.out.println("CDS 아카이브 생성: " + archive.getFileName());
+        exec(javaCommand(trainOptions, List.of("-jar", extractedJar.toString())), workDir.resolve(archiveName + ".log"));
+        return archive;
+    }
+
+    private List<String> javaCommand(List<String> options, List<String> target) {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        for (String arg : config.appJvmArgs().trim().split("\\s+")) {
+            if (!arg.isEmpty()) {
+                command.add(arg);
+            }
+        }
+        command.addAll(options);
+        command.addAll(target);
+        command.addAll(appArgs());
+        return command;
+    }
+
+    private List<String> appArgs() {
+        return List.of("--server.port=" + config.appPort(), "--spring.jpa.show-sql=false");
+    }
+
+    private void exec(List<String> command, Path logFile) throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        builder.environment().putAll(environment);
+        Process process = builder.start();
+        if (!process.waitFor(5, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("시간 안에 끝나지 않았습니다, 로그: " + logFile);
+        }
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("실패했습니다 (exit " + process.exitValue() + "), 로그: " + logFile);
+        }
+    }
+
+    private static boolean hasAotInitializer(Path jar) throws IOException {
+        try (JarFile file = new JarFile(jar.toFile())) {
+            return file.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    // 네이티브 이미지도 같은 로그를 남김 (없으면 -1)
+    private static double startedMs(Path logFile) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(logFile, StandardCharsets.ISO_8859_1));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) * 1000 : -1;
+    }
+
+    private static double rssMb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        Matcher matcher = RSS.matcher(Files.readString(status));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) / 1024.0 : -1;
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " 가 필요합니다 (./gradlew startupBenchmark 로 실행)");
+        }
+        return value;
+    }
+
+    record Sample(double readyMs, double startedMs, double rssMb) {
+    }
+
+    /**
+     * 반복 실행의 중앙값 (samples 는 실행별 원본 값)
+     */
+    public record VariantStats(double readyMs, double startedMs, double rssMb, List<Sample> samples) {
+
+        static VariantStats of(List<Sample> samples) {
+            return new VariantStats(
+                    median(samples.stream().mapToDouble(Sample::readyMs).sorted().toArray()),
+                    median(samples.stream().mapToDouble(Sample::startedMs).sorted().toArray()),
+                    median(samples.stream().mapToDouble(Sample::rssMb).sorted().toArray()),
+                    samples);
+        }
+
+        private static double median(double[] sorted) {
+            int middle = sorted.length / 2;
+            return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+        }
+    }
+}
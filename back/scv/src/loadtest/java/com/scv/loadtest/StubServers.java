@@ -0,0 +1,242 @@
+package com.scv.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FastAPI(학습 / 분석 / 벡터 DB) 와 GitHub API 를 흉내 내는 로컬 HTTP 서버
+ * 경로는 UrlUtil, GithubUrlBuilder 와 동일하고, 지연과 응답 크기는 LoadTestConfig 로 조절
+ */
+public class StubServers implements AutoCloseable {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LoadTestConfig config;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    // 분석 결과는 크기만 중요하므로 한 번만 생성
+    private final byte[] analyzeResponse;
+
+    // GitHub contents API 의 파일별 sha (두 번째 export 부터 수정 요청이 됨)
+    private final Map<String, String> githubFileShas = new ConcurrentHashMap<>();
+    private final AtomicInteger githubRemaining = new AtomicInteger(5000);
+
+    private HttpServer train;
+    private HttpServer analyze;
+    private HttpServer search;
+    private HttpServer github;
+
+    public StubServers(LoadTestConfig config) {
+        this.config = config;
+        this.analyzeResponse = analyzeResponse(config.analyzeImageKb());
+    }
+
+    public void start() throws IOException {
+        train = server(Map.of("/fast/v1/models/", this::handleTrain));
+        analyze = server(Map.of("/fast/v1/model/test/analyze/", this::handleAnalyze));
+        search = server(Map.of("/fast/v1/model/match/", this::handleMatch));
+        github = server(Map.of("/", this::handleGithub));
+    }
+
+    public int trainPort() {
+        return train.getAddress().getPort();
+    }
+
+    public int analyzePort() {
+        return analyze.getAddress().getPort();
+    }
+
+    public int searchPort() {
+        return search.getAddress().getPort();
+    }
+
+    public String githubUrl() {
+        return "http://localhost:" + github.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        servers.forEach(server -> server.stop(0));
+        executor.shutdownNow();
+    }
+
+    private HttpServer server(Map<String, HttpHandler> handlers) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        handlers.forEach(server::createContext);
+        server.setExecutor(executor);
+        server.start();
+        servers.add(server);
+        return server;
+    }
+
+    // POST /fast/v1/models/{modelId}/versions/{modelVersionId}
+    private void handleTrain(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        int layerCnt = request.path("layers").size();
+        sleep(config.trainLatency());
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Map<String, Object>> epochs = new ArrayList<>();
+        for (int epoch = 1; epoch <= config.trainEpochs(); epoch++) {
+            epochs.add(Map.of("epoch", epoch,
+                    "train_loss", 1.0 / epoch + random.nextDouble(0.01),
+                    "train_accuracy", 90 + random.nextDouble(9)));
+        }
+        List<Integer> layerParams = new ArrayList<>();
+        for (int i = 0; i < layerCnt; i++) {
+            layerParams.add(random.nextInt(100_000));
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("final_test_accuracy", 90 + random.nextDouble(9));
+        results.put("final_test_loss", random.nextDouble(0.3));
+        results.put("model_code", "import torch\nimport torch.nn as nn\n# " + layerCnt + " layers");
+        results.put("layer_parameters", layerParams);
+        results.put("train_result_per_epoch", epochs);
+        results.put("training_history", Map.of("epochs", config.trainEpochs()));
+
+        sendJson(exchange, 200, objectMapper.writeValueAsBytes(Map.of("test_results", Map.of("results", results))));
+    }
+
+    // GET /fast/v1/model/test/analyze/{modelId}/{modelVersionId}/{dataName}
+    private void handleAnalyze(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        sleep(config.analyzeLatency());
+        sendJson(exchange, 200, analyzeResponse);
+    }
+
+    // DELETE /fast/v1/model/match/{modelId}/{modelVersionId}
+    private void handleMatch(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        sleep(config.searchLatency());
+        sendJson(exchange, 200, "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void handleGithub(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        sleep(config.githubLatency());
+
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        exchange.getResponseHeaders().add("X-RateLimit-Resource", "core");
+        exchange.getResponseHeaders().add("X-RateLimit-Limit", "5000");
+        exchange.getResponseHeaders().add("X-RateLimit-Remaining",
+                String.valueOf(githubRemaining.updateAndGet(remaining -> remaining > 0 ? remaining - 1 : 5000)));
+
+        if (path.startsWith("/repos/") && path.contains("/contents/")) {
+            if ("GET".equals(method)) {
+                String sha = githubFileShas.get(path);
+                if (sha == null) {
+                    sendJson(exchange, 404, "{\"message\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                String content = Base64.getEncoder().encodeToString("import torch".getBytes(StandardCharsets.UTF_8));
+                sendJson(exchange, 200, objectMapper.writeValueAsBytes(Map.of("sha", sha, "content", content)));
+                return;
+            }
+            boolean created = githubFileShas.put(path, Long.toHexString(ThreadLocalRandom.current().nextLong())) == null;
+            sendJson(exchange, created ? 201 : 200, "{}".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (path.equals("/rate_limit")) {
+            sendJson(exchange, 200, "{\"resources\":{}}".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (path.equals("/user/emails")) {
+            sendJson(exchange, 200, "[{\"email\":\"loadtest@scv.local\",\"primary\":true,\"verified\":true}]".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (path.startsWith("/users/") && path.endsWith("/repos")) {
+            sendJson(exchange, 200, "[{\"name\":\"scv-models\"}]".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (path.equals("/user/repos") && "POST".equals(method)) {
+            sendJson(exchange, 201, "{}".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        sendJson(exchange, 404, "{\"message\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 테스트 서버 응답 형식 (confusion_matrix, example_image, feature_activation, activation_maximization)
+    private static byte[] analyzeResponse(int imageKb) {
+        Random random = new Random(42);
+        int imageCnt = 30;
+        int imageBytes = Math.max(1, imageKb * 1024 * 3 / 4 / imageCnt);
+
+        int[][] confusionMatrix = new int[10][10];
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                confusionMatrix[i][j] = i == j ? 950 + random.nextInt(50) : random.nextInt(10);
+            }
+        }
+
+        Map<String, Object> analysis = new LinkedHashMap<>();
+        analysis.put("confusion_matrix", confusionMatrix);
+        analysis.put("example_image", images(random, imageCnt / 3, imageBytes));
+        analysis.put("feature_activation", images(random, imageCnt / 3, imageBytes));
+        analysis.put("activation_maximization", images(random, imageCnt / 3, imageBytes));
+        try {
+            return objectMapper.writeValueAsBytes(analysis);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Map<String, String>> images(Random random, int count, int bytes) {
+        List<Map<String, String>> images = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] image = new byte[bytes];
+            random.nextBytes(image);
+            images.add(Map.of("label", String.valueOf(i), "image", Base64.getEncoder().encodeToString(image)));
+        }
+        return images;
+    }
+
+    private void sleep(Duration latency) {
+        double jitter = config.latencyJitter() > 0
+                ? ThreadLocalRandom.current().nextDouble(-config.latencyJitter(), config.latencyJitter())
+                : 0;
+        long millis = Math.round(latency.toMillis() * (1 + jitter));
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void drain(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.scv.loadtest;
+
+import com.scv.loadtest.Catalog.OwnedModel;
+import com.scv.loadtest.Catalog.SeedUser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 닫힌 루프 가상 사용자 (응답을 받으면 가중치에 따라 다음 시나리오 실행)
+ * 시나리오 전체 소요 시간도 "scenario <이름>" 으로 함께 기록
+ */
+public class TrafficDriver {
+
+    private final LoadTestConfig config;
+    private final Catalog catalog;
+    private final UserActions actions;
+    private final LatencyRecorder recorder;
+
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private final int[] cumulativeWeights;
+
+    private volatile boolean running;
+
+    public TrafficDriver(LoadTestConfig config, Catalog catalog, UserActions actions, LatencyRecorder recorder) {
+        this.config = config;
+        this.catalog = catalog;
+        this.actions = actions;
+        this.recorder = recorder;
+
+        this.cumulativeWeights = new int[config.mix().size()];
+        int total = 0;
+        for (Map.Entry<Scenario, Integer> entry : config.mix().entrySet()) {
+            total += entry.getValue();
+            cumulativeWeights[scenarios.size()] = total;
+            scenarios.add(entry.getKey());
+        }
+    }
+
+    /**
+     * 워밍업 후 측정 구간 동안 트래픽 생성
+     *
+     * @return 실제 측정 시간 (초)
+     */
+    public double run() throws InterruptedException {
+        running = true;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.users(); i++) {
+                SeedUser user = catalog.user(i);
+                executor.submit(() -> loop(user));
+            }
+
+            Thread.sleep(config.warmup().toMillis());
+            recorder.startMeasuring();
+            long start = System.nanoTime();
+            Thread.sleep(config.duration().toMillis());
+            recorder.stopMeasuring();
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            running = false;
+            executor.shutdownNow();
+            return seconds;
+        }
+    }
+
+    private void loop(SeedUser user) {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            Scenario scenario = next();
+            long start = System.nanoTime();
+            boolean success = execute(scenario, user);
+            recorder.record("scenario " + scenario.getScenarioName(), System.nanoTime() - start, success);
+        }
+    }
+
+    private Scenario next() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        return scenarios.getLast();
+    }
+
+    private boolean train(SeedUser user, OwnedModel model) {
+        return actions.createVersion(user, model)
+                .filter(versionId -> actions.train(user, model, versionId))
+                .map(versionId -> {
+                    model.latestVersionId().set(versionId);
+                    catalog.addVersion(versionId);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private boolean execute(Scenario scenario, SeedUser user) {
+        return switch (scenario) {
+            case GALLERY -> actions.browseGallery().isPresent();
+            case MODEL_DETAIL -> actions.modelDetail(user, catalog.randomModelId()).isPresent();
+            case VERSION_DETAIL -> {
+                long versionId = catalog.randomVersionId();
+                boolean success = actions.versionDetail(versionId).isPresent();
+                // 상세를 본 사용자 일부는 코드 보기까지 이동
+                if (success && ThreadLocalRandom.current().nextInt(10) < 3) {
+                    success = actions.versionCode(versionId).isPresent();
+                }
+                yield success;
+            }
+            case TRAIN -> catalog.randomOwnedModel(user)
+                    .map(model -> train(user, model))
+                    .orElse(false);
+            case EXPORT -> catalog.randomOwnedModel(user)
+                    .flatMap(model -> actions.export(user, model))
+                    .isPresent();
+        };
+    }
+}
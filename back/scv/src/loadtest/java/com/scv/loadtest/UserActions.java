@@ -0,0 +1,121 @@
+package com.scv.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.scv.loadtest.Catalog.OwnedModel;
+import com.scv.loadtest.Catalog.SeedUser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프론트엔드가 호출하는 순서 그대로의 API 호출 묶음 (시드와 트래픽에서 공통 사용)
+ */
+public class UserActions {
+
+    static final String[] DATA_SETS = {"MNIST", "Fashion", "CIFAR10", "SVHN", "EMNIST"};
+
+    private final ApiClient api;
+
+    public UserActions(ApiClient api) {
+        this.api = api;
+    }
+
+    public Optional<OwnedModel> createModel(SeedUser user, String modelName, String dataName) {
+        return api.post("POST /api/v1/models", "/api/v1/models", user.cookie(),
+                        Map.of("dataName", dataName, "modelName", modelName))
+                .map(response -> new OwnedModel(response.path("modelId").asLong(), modelName, dataName,
+                        new AtomicLong(response.path("modelVersionId").asLong())));
+    }
+
+    /**
+     * 최신 버전에서 새 버전 생성
+     *
+     * @return 새 버전 id
+     */
+    public Optional<Long> createVersion(SeedUser user, OwnedModel model) {
+        return api.post("POST /api/v1/models/versions/{modelId}",
+                        "/api/v1/models/versions/" + model.modelId() + "?modelVersionId=" + model.latestVersionId().get(),
+                        user.cookie(), null)
+                .map(response -> response.path("modelVersionId").asLong());
+    }
+
+    /**
+     * 레이어 수정 -> 학습 -> 결과(분석) 저장
+     */
+    public boolean train(SeedUser user, OwnedModel model, long versionId) {
+        String versionPath = "/api/v1/models/versions/" + versionId;
+        return api.patch("PATCH /api/v1/models/versions/{versionId}", versionPath, user.cookie(),
+                        Map.of("layers", layers(model.dataName(), ThreadLocalRandom.current().nextInt(1, 7))))
+                .flatMap(ignored -> api.post("POST /api/v1/models/versions/{versionId}/result/run",
+                        versionPath + "/result/run", user.cookie(), null))
+                .flatMap(ignored -> api.post("POST /api/v1/models/versions/{versionId}/result/save",
+                        versionPath + "/result/save", user.cookie(), null))
+                .isPresent();
+    }
+
+    public Optional<JsonNode> browseGallery() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder path = new StringBuilder("/api/v1/models/public?size=12&page=").append(random.nextInt(4));
+        if (random.nextInt(10) < 3) {
+            path.append("&dataName=").append(DATA_SETS[random.nextInt(DATA_SETS.length)]);
+        }
+        if (random.nextBoolean()) {
+            path.append("&orderBy=").append(random.nextBoolean() ? "createdAt" : "updatedAt").append("&direction=desc");
+        }
+        return api.get("GET /api/v1/models/public", path.toString(), null);
+    }
+
+    public Optional<JsonNode> modelDetail(SeedUser user, long modelId) {
+        return api.get("GET /api/v1/models/{modelId}", "/api/v1/models/" + modelId, user.cookie());
+    }
+
+    public Optional<JsonNode> versionDetail(long versionId) {
+        return api.get("GET /api/v1/models/versions/public/{versionId}", "/api/v1/models/versions/public/" + versionId, null);
+    }
+
+    public Optional<JsonNode> versionCode(long versionId) {
+        return api.get("GET /api/v1/models/versions/public/{versionId}/code", "/api/v1/models/versions/public/" + versionId + "/code", null);
+    }
+
+    // content 없이 버전 id 만 보내 서버에서 코드 생성
+    public Optional<JsonNode> export(SeedUser user, OwnedModel model) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("dataName", model.dataName());
+        body.put("modelName", model.modelName());
+        body.put("versionNo", 1);
+        body.put("modelVersionId", model.latestVersionId().get());
+        body.put("message", "loadtest export");
+        return api.post("POST /api/v1/users/repo/export", "/api/v1/users/repo/export", user.cookie(), body);
+    }
+
+    /**
+     * Conv 블록을 쌓고 분류기로 끝나는 구성 (데이터셋 입력 크기에 맞춤)
+     */
+    static List<Map<String, Object>> layers(String dataName, int blocks) {
+        boolean color = dataName.equals("CIFAR10") || dataName.equals("SVHN");
+        int channels = color ? 3 : 1;
+        int size = color ? 32 : 28;
+        int pooled = (size - 2) / 2;
+
+        List<Map<String, Object>> layers = new ArrayList<>();
+        layers.add(Map.of("name", "Conv2d", "in_channels", channels, "out_channels", 32, "kernel_size", 3));
+        layers.add(Map.of("name", "ReLU"));
+        for (int i = 0; i < blocks; i++) {
+            layers.add(Map.of("name", "ZeroPad2d", "padding", 1));
+            layers.add(Map.of("name", "Conv2d", "in_channels", 32, "out_channels", 32, "kernel_size", 3));
+            layers.add(Map.of("name", i % 2 == 0 ? "ReLU" : "GELU"));
+        }
+        layers.add(Map.of("name", "MaxPool2d", "kernel_size", 2, "stride", 2));
+        layers.add(Map.of("name", "Flatten"));
+        layers.add(Map.of("name", "Linear", "in_features", 32 * pooled * pooled, "out_features", 128));
+        layers.add(Map.of("name", "ReLU"));
+        layers.add(Map.of("name", "Linear", "in_features", 128, "out_features", 10));
+        layers.add(Map.of("name", "LogSoftmax", "dim", 1));
+        return layers;
+    }
+}
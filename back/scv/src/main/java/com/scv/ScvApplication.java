@@ -1,13 +1,16 @@
 package com.scv;
 
+import com.scv.global.aot.ScvRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableScheduling
+@ImportRuntimeHints(ScvRuntimeHints.class)
 public class ScvApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,44 @@
+package com.scv.domain.archive.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 소프트 삭제 행 (원본 행을 JSON 으로 만들어 MySQL COMPRESS 로 압축)
+ * 복원 시 UNCOMPRESS(payload) 로 원본 컬럼 값을 확인
+ * result 의 LONGBLOB 컬럼은 base64 문자열이므로 FROM_BASE64(JSON_VALUE(UNCOMPRESS(payload), '$.train_info')) 처럼 되돌림
+ */
+@Table(name = "archived_row", indexes = {
+        @Index(name = "idx_archived_row_source", columnList = "source_table, source_id")
+})
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "archived_row_id", nullable = false)
+    private Long id;
+
+    @Column(name = "source_table", length = 32, nullable = false)
+    private String sourceTable;
+
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    @Lob
+    @Column(name = "payload", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] payload;
+
+    // 소프트 삭제 시점 (원본의 updated_at)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,88 @@
+package com.scv.domain.archive.repository;
+
+import com.scv.domain.archive.domain.ArchivedRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 소프트 삭제 행 보관 (조회 -> 보관 테이블로 복사 -> 원본 삭제 를 한 청크 트랜잭션에서 실행)
+ * 대상 행은 FOR UPDATE SKIP LOCKED 로 잠가 여러 파드가 동시에 실행돼도 같은 행을 옮기지 않음
+ * FK 때문에 result -> model_version -> model 순으로 옮기고, 자식 행이 남아 있으면 건너뜀
+ * (deleted, updated_at) 인덱스 순서로 읽어 LIMIT 만큼의 삭제된 행만 잠금 (V8 마이그레이션, 살아 있는 행은 읽지 않음)
+ */
+@Repository
+public interface ArchivedRowRepository extends JpaRepository<ArchivedRow, Long> {
+
+    // result
+    // gzip LONGBLOB 컬럼(V7)은 JSON 문자열에 넣으면 문자셋 변환으로 바이트가 깨질 수 있어 base64 로 보관
+
+    @Query(value = "SELECT model_version_id FROM result " +
+            "WHERE deleted = true AND updated_at < :cutoff " +
+            "ORDER BY updated_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchivableResultIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_row (source_table, source_id, payload, deleted_at, archived_at) " +
+            "SELECT 'result', model_version_id, COMPRESS(JSON_OBJECT(" +
+            "'model_version_id', model_version_id, 'created_at', created_at, 'updated_at', updated_at, " +
+            "'test_accuracy', test_accuracy, 'test_loss', test_loss, 'total_params', total_params, " +
+            "'code_view', code_view, 'train_info', TO_BASE64(train_info), 'layer_params', TO_BASE64(layer_params), " +
+            "'confusion_matrix', TO_BASE64(confusion_matrix), 'example_img', TO_BASE64(example_img), " +
+            "'feature_activation', TO_BASE64(feature_activation), " +
+            "'activation_maximization', TO_BASE64(activation_maximization), " +
+            "'version', version)), updated_at, NOW(6) " +
+            "FROM result WHERE model_version_id IN (:ids)", nativeQuery = true)
+    int archiveResults(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM result WHERE model_version_id IN (:ids)", nativeQuery = true)
+    int deleteResults(@Param("ids") List<Long> ids);
+
+    // model_version
+
+    @Query(value = "SELECT mv.model_version_id FROM model_version mv " +
+            "WHERE mv.deleted = true AND mv.updated_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM result r WHERE r.model_version_id = mv.model_version_id) " +
+            "ORDER BY mv.updated_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchivableModelVersionIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_row (source_table, source_id, payload, deleted_at, archived_at) " +
+            "SELECT 'model_version', model_version_id, COMPRESS(JSON_OBJECT(" +
+            "'model_version_id', model_version_id, 'model_id', model_id, 'created_at', created_at, " +
+            "'updated_at', updated_at, 'version_no', version_no, 'layer_hash', layer_hash, " +
+            "'version_layer_at', version_layer_at, 'is_working_on', is_working_on)), updated_at, NOW(6) " +
+            "FROM model_version WHERE model_version_id IN (:ids)", nativeQuery = true)
+    int archiveModelVersions(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM model_version WHERE model_version_id IN (:ids)", nativeQuery = true)
+    int deleteModelVersions(@Param("ids") List<Long> ids);
+
+    // model
+
+    @Query(value = "SELECT m.model_id FROM model m " +
+            "WHERE m.deleted = true AND m.updated_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM model_version mv WHERE mv.model_id = m.model_id) " +
+            "ORDER BY m.updated_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchivableModelIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_row (source_table, source_id, payload, deleted_at, archived_at) " +
+            "SELECT 'model', model_id, COMPRESS(JSON_OBJECT(" +
+            "'model_id', model_id, 'user_id', user_id, 'data_id', data_id, 'model_name', model_name, " +
+            "'model_latest', model_latest, 'model_latest_accuracy', model_latest_accuracy, " +
+            "'created_at', created_at, 'updated_at', updated_at)), updated_at, NOW(6) " +
+            "FROM model WHERE model_id IN (:ids)", nativeQuery = true)
+    int archiveModels(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM model WHERE model_id IN (:ids)", nativeQuery = true)
+    int deleteModels(@Param("ids") List<Long> ids);
+}
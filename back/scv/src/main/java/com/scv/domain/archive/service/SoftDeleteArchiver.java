@@ -0,0 +1,84 @@
+package com.scv.domain.archive.service;
+
+import com.scv.domain.archive.repository.ArchivedRowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 보관 기간이 지난 소프트 삭제 행을 archived_row 로 옮기는 배치
+ * 청크마다 짧은 트랜잭션으로 실행해 긴 잠금 없이 원본 테이블과 인덱스 크기를 줄임
+ * (소프트 삭제 시 updated_at 을 갱신하므로 updated_at 을 삭제 시점으로 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SoftDeleteArchiver {
+
+    private final ArchivedRowRepository archivedRowRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${spring.archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${spring.archive.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${spring.archive.max-chunks:100}")
+    private int maxChunks;
+
+    @Scheduled(cron = "${spring.archive.cron:0 30 4 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        // FK 순서: 자식(result) -> model_version -> model
+        int results = archive("result", cutoff, limit -> archivedRowRepository.lockArchivableResultIds(cutoff, limit),
+                archivedRowRepository::archiveResults, archivedRowRepository::deleteResults);
+        int versions = archive("model_version", cutoff, limit -> archivedRowRepository.lockArchivableModelVersionIds(cutoff, limit),
+                archivedRowRepository::archiveModelVersions, archivedRowRepository::deleteModelVersions);
+        int models = archive("model", cutoff, limit -> archivedRowRepository.lockArchivableModelIds(cutoff, limit),
+                archivedRowRepository::archiveModels, archivedRowRepository::deleteModels);
+
+        log.info("소프트 삭제 보관 완료: result {}, model_version {}, model {}", results, versions, models);
+    }
+
+    private int archive(String table, LocalDateTime cutoff,
+                        Function<Integer, List<Long>> lockIds,
+                        ToIntFunction<List<Long>> copy,
+                        ToIntFunction<List<Long>> delete) {
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = lockIds.apply(chunkSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                if (copy.applyAsInt(ids) != ids.size()) {
+                    throw new IllegalStateException(table + " 보관 행 수 불일치");
+                }
+                return delete.applyAsInt(ids);
+            });
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+        log.debug("{} 보관: {}건 (기준 {})", table, total, cutoff);
+        return total;
+    }
+}
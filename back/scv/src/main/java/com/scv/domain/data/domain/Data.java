@@ -4,6 +4,8 @@ import com.scv.domain.data.enums.DataSet;
 import com.scv.domain.model.domain.Model;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -11,6 +13,7 @@ import java.util.List;
         @Index(name = "idx_data_name", columnList = "data_name")
 })
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "data")
 @Getter
 @Builder(toBuilder = true)
 @AllArgsConstructor
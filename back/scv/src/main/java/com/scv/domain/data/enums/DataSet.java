@@ -8,15 +8,20 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum DataSet {
 
-    MNIST(1, "MNIST"),
-    Fashion(2, "Fashion"),
-    CIFAR10(3, "CIFAR10"),
-    SVHN(4, "SVHN"),
-    EMNIST(5, "EMNIST");
+    MNIST(1, "MNIST", 1, 28, 28),
+    Fashion(2, "Fashion", 1, 28, 28),
+    CIFAR10(3, "CIFAR10", 3, 32, 32),
+    SVHN(4, "SVHN", 3, 32, 32),
+    EMNIST(5, "EMNIST", 1, 28, 28);
 
     private final int id;
     private final String name;
 
+    // 학습 서버(datasets.yaml)의 input_shape 와 동일하게 유지
+    private final int inputChannels;
+    private final int inputHeight;
+    private final int inputWidth;
+
     public static DataSet fromId(int id) {
         for (DataSet dataset : DataSet.values()) {
             if (dataset.getId() == id) {
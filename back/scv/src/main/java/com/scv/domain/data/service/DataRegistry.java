@@ -0,0 +1,77 @@
+package com.scv.domain.data.service;
+
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.data.enums.DataSet;
+import com.scv.domain.data.exception.DataNotFoundException;
+import com.scv.domain.data.repository.DataRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * data 테이블(데이터셋 메타데이터)을 시작 시 한 번 읽어 메모리에서 제공
+ * 행이 몇 개뿐이고 거의 바뀌지 않으므로 조회마다 DB 를 읽지 않음 (변경 시 refresh 호출)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataRegistry {
+
+    private final DataRepository dataRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private volatile Map<DataSet, Data> byName = Map.of();
+
+    // DB 조회 중 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * data 테이블 다시 읽기
+     * 쿼리는 DataSet 의 id 로 data_id 를 대신하므로 두 값이 다르면 시작을 중단
+     */
+    @PostConstruct
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            entityManagerFactory.getCache().evict(Data.class);
+            List<Data> rows = dataRepository.findAll();
+
+            Map<DataSet, Data> loaded = new EnumMap<>(DataSet.class);
+            for (Data data : rows) {
+                if (data.getName() == null || data.getName().getId() != data.getId()) {
+                    throw new IllegalStateException("data_id 와 DataSet id 불일치: " + data.getId() + " " + data.getName());
+                }
+                loaded.put(data.getName(), data);
+            }
+
+            byName = Map.copyOf(loaded);
+            log.info("데이터셋 {}개 로드", byName.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public Data get(DataSet dataSet) {
+        Data data = byName.get(dataSet);
+        if (data == null) {
+            throw new DataNotFoundException();
+        }
+        return data;
+    }
+
+    public Data get(int dataId) {
+        return get(DataSet.fromId(dataId));
+    }
+
+    public Collection<Data> getAll() {
+        return byName.values();
+    }
+}
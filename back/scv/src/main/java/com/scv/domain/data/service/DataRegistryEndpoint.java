@@ -0,0 +1,43 @@
+package com.scv.domain.data.service;
+
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.data.enums.DataSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * /actuator/dataregistry : 로드된 데이터셋 조회(GET), data 테이블 변경 후 다시 읽기(POST)
+ */
+@Component
+@Endpoint(id = "dataregistry")
+@RequiredArgsConstructor
+public class DataRegistryEndpoint {
+
+    private final DataRegistry dataRegistry;
+
+    @ReadOperation
+    public List<DataSetInfo> dataSets() {
+        return dataRegistry.getAll().stream()
+                .sorted(Comparator.comparingInt(Data::getId))
+                .map(DataSetInfo::new)
+                .toList();
+    }
+
+    @WriteOperation
+    public List<DataSetInfo> refresh() {
+        dataRegistry.refresh();
+        return dataSets();
+    }
+
+    public record DataSetInfo(int id, DataSet name, int trainCnt, int testCnt, int labelCnt, int epochCnt) {
+        DataSetInfo(Data data) {
+            this(data.getId(), data.getName(), data.getTrainCnt(), data.getTestCnt(), data.getLabelCnt(), data.getEpochCnt());
+        }
+    }
+}
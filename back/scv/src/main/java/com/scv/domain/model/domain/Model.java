@@ -22,7 +22,9 @@ import java.util.List;
 public class Model extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 배치를 막으므로 테이블 기반 pooled 할당 (50개씩 미리 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "model_seq")
+    @SequenceGenerator(name = "model_seq", sequenceName = "model_seq", allocationSize = 50)
     @Column(name = "model_id", nullable = false)
     private Long id;
 
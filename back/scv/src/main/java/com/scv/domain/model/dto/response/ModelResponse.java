@@ -17,12 +17,22 @@ public record ModelResponse(
         LocalDateTime updatedAt,
         Long latestVersionId
 ) {
+    // data 조인 없이 model.data_id 로 데이터셋 결정 (DataRegistry 가 시작 시 id 일치 검증)
+    public ModelResponse(UserProfileResponseDTO userProfile, Long modelId, String modelName, Integer dataId,
+                         Integer latestVersion, Double accuracy, LocalDateTime createdAt, LocalDateTime updatedAt,
+                         Long latestVersionId) {
+        this(userProfile, modelId, modelName, DataSet.fromId(dataId),
+                latestVersion != null ? latestVersion : 0,
+                accuracy != null ? accuracy : -1.0,
+                createdAt, updatedAt, latestVersionId);
+    }
+
     public ModelResponse(Model model) {
         this(
                 new UserProfileResponseDTO(model.getUser()),
                 model.getId(),
                 model.getName(),
-                model.getData().getName(),
+                DataSet.fromId(model.getData().getId()),
                 model.getLatestVersion() != null ? model.getLatestVersion() : 0,
                 model.getAccuracy() != null ? model.getAccuracy() : -1.0, // null일 -값 보여주기
                 model.getCreatedAt(),
@@ -2,10 +2,35 @@ package com.scv.domain.model.repository;
 
 import com.scv.domain.model.domain.Model;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ModelRepository extends JpaRepository<Model, Long>, ModelRepositoryCustom {
+
+    // 최신 버전 번호를 DB 에서 원자적으로 증가 (행 잠금은 트랜잭션 종료 시 해제)
+    @Modifying
+    @Query("UPDATE Model m SET m.latestVersion = COALESCE(m.latestVersion, 0) + 1 WHERE m.id = :modelId")
+    int incrementLatestVersion(@Param("modelId") Long modelId);
+
+    @Query("SELECT m.latestVersion FROM Model m WHERE m.id = :modelId")
+    Integer findLatestVersionById(@Param("modelId") Long modelId);
+
+    @Modifying
+    @Query("UPDATE Model m SET m.latestVersion = :versionNo, m.accuracy = :accuracy WHERE m.id = :modelId")
+    int updateLatest(@Param("modelId") Long modelId,
+                     @Param("versionNo") int versionNo,
+                     @Param("accuracy") Double accuracy);
+
+    // 해당 버전이 여전히 최신일 때만 정확도 갱신
+    @Modifying
+    @Query("UPDATE Model m SET m.accuracy = :accuracy WHERE m.id = :modelId AND m.latestVersion = :versionNo")
+    int updateAccuracyIfLatest(@Param("modelId") Long modelId,
+                               @Param("versionNo") int versionNo,
+                               @Param("accuracy") double accuracy);
+
     /**
      * JPQL -> QueryDSL로 변경
      */
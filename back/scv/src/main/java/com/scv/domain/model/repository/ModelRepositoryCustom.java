@@ -1,11 +1,15 @@
 package com.scv.domain.model.repository;
 
 import com.scv.domain.data.enums.DataSet;
+import com.scv.domain.model.dto.response.ModelDetailResponse;
 import com.scv.domain.model.dto.response.ModelResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
+
 public interface ModelRepositoryCustom {
     Page<ModelResponse> searchMyModels(String modelName, DataSet dataName, Long userId, Pageable pageable);
     Page<ModelResponse> searchModels(String modelName, DataSet dataName, Pageable pageable);
+    Optional<ModelDetailResponse> findModelDetail(Long modelId);
 }
\ No newline at end of file
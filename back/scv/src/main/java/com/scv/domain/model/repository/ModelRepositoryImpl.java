@@ -1,19 +1,25 @@
 package com.scv.domain.model.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.scv.domain.data.enums.DataSet;
+import com.scv.domain.model.dto.response.ModelDetailResponse;
 import com.scv.domain.model.dto.response.ModelResponse;
 import com.scv.domain.user.dto.response.UserProfileResponseDTO;
+import com.scv.domain.version.dto.response.ModelVersionResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Optional;
+
 import static com.scv.domain.model.domain.QModel.model;
 import static com.scv.domain.user.domain.QUser.user;
 import static com.scv.domain.version.domain.QModelVersion.modelVersion;
@@ -35,7 +41,7 @@ public class ModelRepositoryImpl implements ModelRepositoryCustom {
                                 user.userRepo),
                         model.id,
                         model.name,
-                        model.data.name,
+                        model.data.id,
                         model.latestVersion,
                         model.accuracy,
                         model.createdAt,
@@ -89,7 +95,7 @@ public class ModelRepositoryImpl implements ModelRepositoryCustom {
                                 user.userRepo),
                         model.id,
                         model.name,
-                        model.data.name,
+                        model.data.id,
                         model.latestVersion,
                         model.accuracy,
                         model.createdAt,
@@ -133,6 +139,66 @@ public class ModelRepositoryImpl implements ModelRepositoryCustom {
         return PageableExecutionUtils.getPage(query.fetch(), pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 모델 상세 조회 (모델 + 작성자 1회, 삭제되지 않은 버전 목록 1회)
+     * 엔티티를 읽지 않으므로 지연 로딩이 발생하지 않음
+     */
+    @Override
+    public Optional<ModelDetailResponse> findModelDetail(Long modelId) {
+        Tuple header = queryFactory
+                .select(
+                        Projections.constructor(UserProfileResponseDTO.class,
+                                user.userId,
+                                user.userEmail,
+                                user.userImageUrl,
+                                user.userNickname,
+                                user.userRepo),
+                        model.id,
+                        model.name,
+                        model.data.id,
+                        model.latestVersion,
+                        model.createdAt,
+                        model.updatedAt
+                )
+                .from(model)
+                .innerJoin(model.user, user)
+                .where(
+                        model.id.eq(modelId),
+                        isNotDeleted()
+                )
+                .fetchOne();
+
+        if (header == null) {
+            return Optional.empty();
+        }
+
+        List<ModelVersionResponse> versions = queryFactory
+                .select(Projections.constructor(ModelVersionResponse.class,
+                        modelVersion.id,
+                        modelVersion.versionNo
+                ))
+                .from(modelVersion)
+                .where(
+                        modelVersion.model.id.eq(modelId),
+                        modelVersion.deleted.isFalse()
+                )
+                .orderBy(modelVersion.versionNo.desc())
+                .fetch();
+
+        Integer latestVersion = header.get(model.latestVersion);
+
+        return Optional.of(new ModelDetailResponse(
+                header.get(0, UserProfileResponseDTO.class),
+                header.get(model.id),
+                header.get(model.name),
+                DataSet.fromId(header.get(model.data.id)).toString(),
+                latestVersion != null ? latestVersion : 0,
+                versions,
+                header.get(model.createdAt),
+                header.get(model.updatedAt)
+        ));
+    }
+
     private void applySort(JPAQuery<?> query, Pageable pageable) {
         pageable.getSort().forEach(order -> {
             switch (order.getProperty()) {
@@ -156,7 +222,7 @@ public class ModelRepositoryImpl implements ModelRepositoryCustom {
     }
 
     private BooleanExpression containsDataName(DataSet dataName) {
-        return dataName != null ? model.data.name.stringValue().eq(dataName.getName()) : null;
+        return dataName != null ? model.data.id.eq(dataName.getId()) : null;
     }
 
     private BooleanExpression equalsUserId(Long userId) {
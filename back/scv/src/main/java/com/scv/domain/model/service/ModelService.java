@@ -2,8 +2,7 @@ package com.scv.domain.model.service;
 
 import com.scv.domain.data.domain.Data;
 import com.scv.domain.data.enums.DataSet;
-import com.scv.domain.data.exception.DataNotFoundException;
-import com.scv.domain.data.repository.DataRepository;
+import com.scv.domain.data.service.DataRegistry;
 import com.scv.domain.model.domain.Model;
 import com.scv.domain.model.dto.request.ModelCreateRequest;
 import com.scv.domain.model.dto.response.ModelCreateResponse;
@@ -11,12 +10,14 @@ import com.scv.domain.model.dto.response.ModelDetailResponse;
 import com.scv.domain.model.dto.response.ModelResponse;
 import com.scv.domain.model.exception.ModelNotFoundException;
 import com.scv.domain.model.repository.ModelRepository;
+import com.scv.domain.result.repository.ResultRepository;
 import com.scv.global.oauth2.auth.CustomOAuth2User;
 import com.scv.domain.user.domain.User;
 import com.scv.domain.user.exception.UserNotFoundException;
 import com.scv.domain.user.repository.UserRepository;
 import com.scv.domain.version.domain.ModelVersion;
 import com.scv.domain.version.repository.ModelVersionRepository;
+import com.scv.domain.version.service.LayerStore;
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.BadRequestException;
 import org.springframework.data.domain.Page;
@@ -25,6 +26,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -33,12 +35,14 @@ public class ModelService {
 
     private final ModelRepository modelRepository;
     private final ModelVersionRepository modelVersionRepository;
-    private final DataRepository dataRepository;
+    private final ResultRepository resultRepository;
+    private final DataRegistry dataRegistry;
     private final UserRepository userRepository;
+    private final LayerStore layerStore;
 
     // 모델 생성
     public ModelCreateResponse createModel(ModelCreateRequest request, CustomOAuth2User user) {
-        Data data = dataRepository.findByName(request.dataName()).orElseThrow(DataNotFoundException::new);
+        Data data = dataRegistry.get(request.dataName());
         User existingUser = userRepository.findById(user.getUserId()).orElseThrow(UserNotFoundException::getInstance);
 
         Model model = Model.builder()
@@ -53,7 +57,7 @@ public class ModelService {
 
         ModelVersion firstVersion = ModelVersion.builder()
                 .model(savedModel)
-                .layers("[]")
+                .layerHash(layerStore.save(List.of(), null))
                 .versionNo(0)
                 .build();
 
@@ -82,9 +86,7 @@ public class ModelService {
     // 모델 버전 조회
     @Transactional(readOnly = true)
     public ModelDetailResponse getModelVersions(Long modelId) {
-        Model model = modelRepository.findById(modelId).orElseThrow(ModelNotFoundException::new);
-
-        return new ModelDetailResponse(model);
+        return modelRepository.findModelDetail(modelId).orElseThrow(ModelNotFoundException::new);
     }
 
 
@@ -110,6 +112,7 @@ public class ModelService {
             throw new BadRequestException("자신의 모델만 수정할 수 있습니다.");
         }
 
+        resultRepository.softDeleteAllByModelId(modelId);
         modelVersionRepository.softDeleteAllByModelId(modelId);
 
         model.delete();
@@ -1,6 +1,8 @@
 package com.scv.domain.result.domain;
 
 import com.scv.domain.version.domain.ModelVersion;
+import com.scv.global.json.CompressedJson;
+import com.scv.global.json.CompressedJsonConverter;
 import com.scv.global.shared.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -34,26 +36,33 @@ public class Result extends BaseEntity {
     @Column(name = "test_loss")
     private Double testLoss;
 
-    @Column(name = "train_info", columnDefinition = "JSON")
-    private String trainInfo;
+    // 큰 JSON 컬럼은 gzip 으로 압축해 저장 (V7 마이그레이션)
+    @Convert(converter = CompressedJsonConverter.class)
+    @Column(name = "train_info", columnDefinition = "LONGBLOB")
+    private CompressedJson trainInfo;
 
-    @Column(name = "confusion_matrix", columnDefinition = "JSON", nullable = true)
-    private String confusionMatrix;
+    @Convert(converter = CompressedJsonConverter.class)
+    @Column(name = "confusion_matrix", columnDefinition = "LONGBLOB")
+    private CompressedJson confusionMatrix;
 
-    @Column(name = "example_img", columnDefinition = "JSON")
-    private String exampleImg;
+    @Convert(converter = CompressedJsonConverter.class)
+    @Column(name = "example_img", columnDefinition = "LONGBLOB")
+    private CompressedJson exampleImg;
 
     @Column(name = "total_params")
     private int totalParams;
 
-    @Column(name = "layer_params", columnDefinition = "JSON")
-    private String layerParams;
+    @Convert(converter = CompressedJsonConverter.class)
+    @Column(name = "layer_params", columnDefinition = "LONGBLOB")
+    private CompressedJson layerParams;
 
-    @Column(name = "feature_activation", columnDefinition = "JSON")
-    private String featureActivation;
+    @Convert(converter = CompressedJsonConverter.class)
+    @Column(name = "feature_activation", columnDefinition = "LONGBLOB")
+    private CompressedJson featureActivation;
 
-    @Column(name = "activation_maximization", columnDefinition = "JSON")
-    private String activationMaximization;
+    @Convert(converter = CompressedJsonConverter.class)
+    @Column(name = "activation_maximization", columnDefinition = "LONGBLOB")
+    private CompressedJson activationMaximization;
 
 
     /**
@@ -64,10 +73,10 @@ public class Result extends BaseEntity {
      * @param activationMaximization
      */
     public void updateAnalysis(String confusionMatrix, String exampleImg, String featureActivation, String activationMaximization) {
-        this.confusionMatrix = confusionMatrix;
-        this.exampleImg = exampleImg;
-        this.featureActivation = featureActivation;
-        this.activationMaximization = activationMaximization;
+        this.confusionMatrix = CompressedJson.of(confusionMatrix);
+        this.exampleImg = CompressedJson.of(exampleImg);
+        this.featureActivation = CompressedJson.of(featureActivation);
+        this.activationMaximization = CompressedJson.of(activationMaximization);
     }
 
     /**
@@ -83,8 +92,8 @@ public class Result extends BaseEntity {
         this.code = code;
         this.testAccuracy = testAccuracy;
         this.testLoss = testLoss;
-        this.trainInfo = trainInfo;
-        this.layerParams = layerParams;
+        this.trainInfo = CompressedJson.of(trainInfo);
+        this.layerParams = CompressedJson.of(layerParams);
         this.totalParams = totalParams;
     }
 
@@ -0,0 +1,8 @@
+package com.scv.domain.result.dto.response;
+
+public record ResultMetricResponse(
+        Double testAccuracy,
+        Double testLoss,
+        int totalParams
+) {
+}
@@ -1,6 +1,7 @@
 package com.scv.domain.result.dto.response;
 
 import com.scv.domain.result.domain.Result;
+import com.scv.global.json.CompressedJson;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -22,9 +23,13 @@ public class ResultResponse {
         this.codeView = result.getCode();
         this.testAccuracy = result.getTestAccuracy();
         this.testLoss = result.getTestLoss();
-        this.trainInfos = result.getTrainInfo();
+        this.trainInfos = json(result.getTrainInfo());
         this.totalParams = result.getTotalParams();
-        this.layerParams = result.getLayerParams();
+        this.layerParams = json(result.getLayerParams());
+    }
+
+    protected static String json(CompressedJson value) {
+        return value == null ? null : value.toJson();
     }
 
 }
@@ -13,10 +13,10 @@ public class ResultResponseWithImages extends ResultResponse {
 
     public ResultResponseWithImages(Result result) {
         super(result);
-        this.confusionMatrix = result.getConfusionMatrix();
-        this.exampleImg = result.getExampleImg();
-        this.featureActivation = result.getFeatureActivation();
-        this.activationMaximization = result.getActivationMaximization();
+        this.confusionMatrix = json(result.getConfusionMatrix());
+        this.exampleImg = json(result.getExampleImg());
+        this.featureActivation = json(result.getFeatureActivation());
+        this.activationMaximization = json(result.getActivationMaximization());
     }
 
 }
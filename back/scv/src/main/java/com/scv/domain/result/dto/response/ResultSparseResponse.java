@@ -0,0 +1,45 @@
+package com.scv.domain.result.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.scv.domain.result.enums.ResultField;
+import com.scv.global.json.CompressedJson;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 요청한 항목만 담은 결과 (키 이름은 ResultResponseWithImages 와 같고, 고르지 않은 항목은 직렬화하지 않음)
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultSparseResponse {
+
+    private final String codeView;
+    private final Double testAccuracy;
+    private final Double testLoss;
+    private final Integer totalParams;
+    private final String trainInfos;
+    private final String layerParams;
+    private final String confusionMatrix;
+    private final String exampleImg;
+    private final String featureActivation;
+    private final String activationMaximization;
+
+    public ResultSparseResponse(String codeView, Double testAccuracy, Double testLoss, Integer totalParams,
+                                Map<ResultField, CompressedJson> columns) {
+        this.codeView = codeView;
+        this.testAccuracy = testAccuracy;
+        this.testLoss = testLoss;
+        this.totalParams = totalParams;
+        this.trainInfos = json(columns.get(ResultField.TRAIN_INFO));
+        this.layerParams = json(columns.get(ResultField.LAYER_PARAMS));
+        this.confusionMatrix = json(columns.get(ResultField.CONFUSION_MATRIX));
+        this.exampleImg = json(columns.get(ResultField.EXAMPLE_IMG));
+        this.featureActivation = json(columns.get(ResultField.FEATURE_ACTIVATION));
+        this.activationMaximization = json(columns.get(ResultField.ACTIVATION_MAXIMIZATION));
+    }
+
+    private static String json(CompressedJson value) {
+        return value == null ? null : value.toJson();
+    }
+}
@@ -0,0 +1,36 @@
+package com.scv.domain.result.enums;
+
+import com.querydsl.core.types.dsl.SimplePath;
+import com.scv.domain.result.domain.QResult;
+import com.scv.domain.result.exception.ResultNotFoundException;
+import com.scv.global.json.CompressedJson;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 압축 저장되는 결과 JSON 컬럼 (개별 조회 경로 이름)
+ */
+@Getter
+@AllArgsConstructor
+public enum ResultField {
+
+    TRAIN_INFO("train-info", result -> result.trainInfo),
+    LAYER_PARAMS("layer-params", result -> result.layerParams),
+    CONFUSION_MATRIX("confusion-matrix", result -> result.confusionMatrix),
+    EXAMPLE_IMG("example-img", result -> result.exampleImg),
+    FEATURE_ACTIVATION("feature-activation", result -> result.featureActivation),
+    ACTIVATION_MAXIMIZATION("activation-maximization", result -> result.activationMaximization);
+
+    private final String pathName;
+    private final Function<QResult, SimplePath<CompressedJson>> path;
+
+    public static ResultField fromPathName(String pathName) {
+        return Arrays.stream(values())
+                .filter(field -> field.pathName.equals(pathName))
+                .findFirst()
+                .orElseThrow(ResultNotFoundException::new);
+    }
+}
@@ -1,28 +1,70 @@
 package com.scv.domain.result.repository;
 
 import com.scv.domain.result.domain.Result;
-import jakarta.persistence.LockModeType;
+import com.scv.domain.result.dto.response.ResultMetricResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ResultRepository extends JpaRepository<Result, Long> {
+public interface ResultRepository extends JpaRepository<Result, Long>, ResultRepositoryCustom {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT r FROM Result r WHERE r.id = :id")
-    Optional<Result> findByIdWithLock(@Param("id") Long id);
+    // gzip 헤더(1f8b)로 시작하지 않는 결과 컬럼이 하나라도 있는 행 (V7 이전 평문)
+    String UNCOMPRESSED = "LEFT(train_info, 2) <> X'1F8B' OR LEFT(layer_params, 2) <> X'1F8B' OR " +
+            "LEFT(confusion_matrix, 2) <> X'1F8B' OR LEFT(example_img, 2) <> X'1F8B' OR " +
+            "LEFT(feature_activation, 2) <> X'1F8B' OR LEFT(activation_maximization, 2) <> X'1F8B'";
 
     @Modifying
     @Transactional
-    @Query("UPDATE Result r SET r.deleted = true WHERE r.modelVersion.id = :modelVersionId")
+    @Query("UPDATE Result r SET r.deleted = true, r.updatedAt = CURRENT_TIMESTAMP WHERE r.modelVersion.id = :modelVersionId")
     void softDeleteByModelVersionId(@Param("modelVersionId") Long modelVersionId);
 
+    // 모델 삭제 시 모든 버전의 결과도 소프트 삭제 (보관 배치가 result -> model_version -> model 순으로 옮길 수 있도록)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Result r SET r.deleted = true, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.deleted = false AND r.modelVersion.id IN (SELECT mv.id FROM ModelVersion mv WHERE mv.model.id = :modelId)")
+    void softDeleteAllByModelId(@Param("modelId") Long modelId);
+
     Optional<Result> findByIdAndDeletedFalse(Long modelVersionId);
+
+    // 이미지 등 큰 JSON 컬럼을 제외한 지표만 조회
+    @Query("SELECT new com.scv.domain.result.dto.response.ResultMetricResponse(r.testAccuracy, r.testLoss, r.totalParams) " +
+            "FROM Result r WHERE r.id = :id AND r.deleted = false")
+    Optional<ResultMetricResponse> findMetricById(@Param("id") Long id);
+
+    // 조건에 맞는 인덱스가 없어 잠금 읽기로 찾으면 훑은 행이 모두 잠기므로, 후보는 잠그지 않는 일반 조회로 찾음
+    // 기본 키 순서로 읽어 청크마다 이어서 진행
+    @Query(value = "SELECT model_version_id FROM result WHERE model_version_id > :after AND (" + UNCOMPRESSED + ") " +
+            "ORDER BY model_version_id LIMIT :limit", nativeQuery = true)
+    List<Long> findUncompressedIds(@Param("after") Long after, @Param("limit") int limit);
+
+    // 후보 행만 기본 키로 잠금 (그 사이 압축된 행은 다시 확인해 제외, 다른 트랜잭션이 잡고 있는 행은 다음 실행에서 처리)
+    @Query(value = "SELECT model_version_id FROM result WHERE model_version_id IN (:ids) AND (" + UNCOMPRESSED + ") " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockUncompressedIds(@Param("ids") List<Long> ids);
+
+    @Query(value = "SELECT model_version_id, train_info, layer_params, confusion_matrix, example_img, " +
+            "feature_activation, activation_maximization FROM result WHERE model_version_id IN (:ids)", nativeQuery = true)
+    List<Object[]> findStoredJsonByIds(@Param("ids") List<Long> ids);
+
+    // 내용은 같으므로 version, updated_at 은 그대로 둠 (updated_at 은 보관 배치의 삭제 시점)
+    @Modifying
+    @Query(value = "UPDATE result SET train_info = :trainInfo, layer_params = :layerParams, " +
+            "confusion_matrix = :confusionMatrix, example_img = :exampleImg, " +
+            "feature_activation = :featureActivation, activation_maximization = :activationMaximization " +
+            "WHERE model_version_id = :id", nativeQuery = true)
+    int updateStoredJson(@Param("id") Long id,
+                         @Param("trainInfo") byte[] trainInfo,
+                         @Param("layerParams") byte[] layerParams,
+                         @Param("confusionMatrix") byte[] confusionMatrix,
+                         @Param("exampleImg") byte[] exampleImg,
+                         @Param("featureActivation") byte[] featureActivation,
+                         @Param("activationMaximization") byte[] activationMaximization);
 }
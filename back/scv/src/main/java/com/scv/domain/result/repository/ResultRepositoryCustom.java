@@ -0,0 +1,14 @@
+package com.scv.domain.result.repository;
+
+import com.scv.domain.result.dto.response.ResultSparseResponse;
+import com.scv.domain.result.enums.ResultField;
+import com.scv.global.json.CompressedJson;
+
+import java.util.Optional;
+import java.util.Set;
+
+public interface ResultRepositoryCustom {
+    Optional<CompressedJson> findField(Long id, ResultField field);
+
+    Optional<ResultSparseResponse> findSparse(Long id, boolean metrics, boolean code, Set<ResultField> fields);
+}
@@ -0,0 +1,83 @@
+package com.scv.domain.result.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.SimplePath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.scv.domain.result.dto.response.ResultSparseResponse;
+import com.scv.domain.result.enums.ResultField;
+import com.scv.global.json.CompressedJson;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.scv.domain.result.domain.QResult.result;
+
+@RequiredArgsConstructor
+public class ResultRepositoryImpl implements ResultRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 요청한 컬럼만 조회 (압축된 바이트 그대로, 다른 큰 컬럼은 읽지 않음)
+    @Override
+    public Optional<CompressedJson> findField(Long id, ResultField field) {
+        return Optional.ofNullable(queryFactory
+                .select(field.getPath().apply(result))
+                .from(result)
+                .where(
+                        result.id.eq(id),
+                        result.deleted.isFalse()
+                )
+                .fetchOne());
+    }
+
+    /**
+     * 고른 항목의 컬럼만 SELECT 절에 넣어 조회 (고르지 않은 JSON 컬럼은 DB 에서 읽지 않음)
+     * 결과 행 존재 여부 확인을 위해 id 는 항상 포함
+     */
+    @Override
+    public Optional<ResultSparseResponse> findSparse(Long id, boolean metrics, boolean code, Set<ResultField> fields) {
+        List<Expression<?>> columns = new ArrayList<>();
+        columns.add(result.id);
+        if (metrics) {
+            columns.add(result.testAccuracy);
+            columns.add(result.testLoss);
+            columns.add(result.totalParams);
+        }
+        if (code) {
+            columns.add(result.code);
+        }
+        Map<ResultField, SimplePath<CompressedJson>> paths = new EnumMap<>(ResultField.class);
+        for (ResultField field : fields) {
+            SimplePath<CompressedJson> path = field.getPath().apply(result);
+            paths.put(field, path);
+            columns.add(path);
+        }
+
+        Tuple row = queryFactory
+                .select(columns.toArray(Expression[]::new))
+                .from(result)
+                .where(
+                        result.id.eq(id),
+                        result.deleted.isFalse()
+                )
+                .fetchOne();
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        Map<ResultField, CompressedJson> values = new EnumMap<>(ResultField.class);
+        paths.forEach((field, path) -> values.put(field, row.get(path)));
+        return Optional.of(new ResultSparseResponse(
+                code ? row.get(result.code) : null,
+                metrics ? row.get(result.testAccuracy) : null,
+                metrics ? row.get(result.testLoss) : null,
+                metrics ? row.get(result.totalParams) : null,
+                values));
+    }
+}
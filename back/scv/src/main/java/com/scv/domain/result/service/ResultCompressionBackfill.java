@@ -0,0 +1,74 @@
+package com.scv.domain.result.service;
+
+import com.scv.domain.result.repository.ResultRepository;
+import com.scv.global.json.CompressedJson;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * V7 이전에 평문 JSON 으로 저장된 결과 컬럼을 gzip 으로 다시 저장하는 배치
+ * 후보는 잠그지 않고 찾은 뒤 청크마다 짧은 트랜잭션에서 해당 행만 잠가 압축
+ * 평문 행이 남지 않으면 잠그지 않는 조회 한 번으로 끝남 (결과 저장을 막지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResultCompressionBackfill {
+
+    private final ResultRepository resultRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.result-compression.backfill-enabled:false}")
+    private boolean enabled;
+
+    @Value("${spring.result-compression.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${spring.result-compression.max-chunks:200}")
+    private int maxChunks;
+
+    @Scheduled(cron = "${spring.result-compression.cron:0 0 5 * * *}")
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        long after = 0;
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> candidates = resultRepository.findUncompressedIds(after, chunkSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            Integer compressed = transactionTemplate.execute(status -> compressChunk(candidates));
+            total += compressed == null ? 0 : compressed;
+            after = candidates.get(candidates.size() - 1);
+        }
+        if (total > 0) {
+            log.info("결과 JSON 압축 백필: {}건", total);
+        }
+    }
+
+    private int compressChunk(List<Long> candidates) {
+        List<Long> ids = resultRepository.lockUncompressedIds(candidates);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        for (Object[] row : resultRepository.findStoredJsonByIds(ids)) {
+            resultRepository.updateStoredJson(((Number) row[0]).longValue(),
+                    gzip(row[1]), gzip(row[2]), gzip(row[3]), gzip(row[4]), gzip(row[5]), gzip(row[6]));
+        }
+        return ids.size();
+    }
+
+    private static byte[] gzip(Object stored) {
+        CompressedJson json = CompressedJson.fromStored((byte[]) stored);
+        return json == null ? null : json.gzipBytes();
+    }
+}
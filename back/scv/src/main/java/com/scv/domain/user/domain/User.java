@@ -6,11 +6,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 @Table(name = "user")
 @Builder
 @Getter
@@ -19,13 +25,16 @@ import java.util.List;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 배치를 막으므로 테이블 기반 pooled 할당 (50개씩 미리 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     @Column(name = "user_id")
     private Long userId;
 
     @Column(name = "user_uuid", unique = true, nullable = false, length = 36)
     private String userUuid;
 
+    @NaturalId
     @Column(name = "user_email", unique = true, nullable = false, length = 100)
     private String userEmail;
 
@@ -49,4 +58,13 @@ public class User {
 
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private List<Model> models;
+
+    /**
+     * 연동된 깃허브 레포지토리 변경 (엔티티로 수정해야 2차 캐시가 갱신됨)
+     *
+     * @param userRepo 레포지토리 이름 (연동 해제 시 null)
+     */
+    public void updateUserRepo(String userRepo) {
+        this.userRepo = userRepo;
+    }
 }
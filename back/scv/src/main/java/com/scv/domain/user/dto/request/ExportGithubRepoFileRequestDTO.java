@@ -19,6 +19,10 @@ public class ExportGithubRepoFileRequestDTO {
     @JsonProperty("content")
     private String content;
 
+    // content 가 없으면 이 버전의 레이어로 코드 생성
+    @JsonProperty("modelVersionId")
+    private Long modelVersionId;
+
     @JsonProperty("message")
     private String message;
 }
@@ -1,20 +1,15 @@
 package com.scv.domain.user.repository;
 
 import com.scv.domain.user.domain.User;
+import com.scv.domain.user.exception.UserNotFoundException;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    Optional<User> findByUserEmail(String userEmail);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-    @Modifying
-    @Query("UPDATE User u SET u.userRepo = :userRepo WHERE u.userId = :userId")
-    void updateUserRepoById(@Param("userId") Long userId, @Param("userRepo") String userRepo);
+    // 벌크 UPDATE 는 2차 캐시 영역 전체를 비우고 다른 파드에 전파되지 않으므로 엔티티로 수정
+    default void updateUserRepoById(Long userId, String userRepo) {
+        findById(userId).orElseThrow(UserNotFoundException::getInstance).updateUserRepo(userRepo);
+    }
 }
@@ -0,0 +1,9 @@
+package com.scv.domain.user.repository;
+
+import com.scv.domain.user.domain.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByUserEmail(String userEmail);
+}
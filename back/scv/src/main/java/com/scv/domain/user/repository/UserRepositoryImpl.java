@@ -0,0 +1,27 @@
+package com.scv.domain.user.repository;
+
+import com.scv.domain.user.domain.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 이메일(natural id)로 조회
+     * natural id 캐시 -> 엔티티 캐시 순으로 확인하고, 둘 다 없을 때만 DB 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByUserEmail(String userEmail) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(userEmail);
+    }
+}
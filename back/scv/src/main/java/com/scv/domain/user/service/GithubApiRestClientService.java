@@ -18,8 +18,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatusCode;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -38,21 +36,8 @@ public class GithubApiRestClientService implements GithubApiService {
 
     private final RedisTokenService redisTokenService;
     private final RedisOAuth2AuthorizedClientService redisOAuth2AuthorizedClientService;
-
-    private static final RestClient restClient = RestClient.builder()
-            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-            .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github+json")
-            .defaultStatusHandler(HttpStatusCode::is4xxClientError, ((request, response) -> {
-                switch (response.getStatusCode().value()) {
-                    case 401 -> throw GithubUnauthorizedException.getInstance();
-                    case 403 -> throw GithubForbiddenException.getInstance();
-                    case 404 -> throw GithubRepoNotFoundException.getInstance();
-                    case 409 -> throw GithubConflictException.getInstance();
-                    case 422 -> throw GithubUnprocessableEntityException.getInstance();
-                    default -> throw GithubBadRequestException.getInstance();
-                }
-            }))
-            .build();
+    private final RestClient githubRestClient;
+    private final GithubUrlBuilder githubUrlBuilder;
 
     // 인증된 유저의 AccessToken 반환
     private String getAccessToken(CustomOAuth2User authUser) {
@@ -79,8 +64,8 @@ public class GithubApiRestClientService implements GithubApiService {
 
     @Override
     public List<GithubEmailApiResponseDTO> getGithubEmailList(String accessToken) {
-        return restClient.get()
-                .uri(GithubUrlBuilder.buildEmailListUrl())
+        return githubRestClient.get()
+                .uri(githubUrlBuilder.buildEmailListUrl())
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
                 .body(new ParameterizedTypeReference<>() {
@@ -89,8 +74,8 @@ public class GithubApiRestClientService implements GithubApiService {
 
     @Override
     public void createGithubRepo(CustomOAuth2User authUser, CreateGithubRepoApiRequestDTO requestDTO) {
-        restClient.post()
-                .uri(GithubUrlBuilder.buildCreateRepoUrl())
+        githubRestClient.post()
+                .uri(githubUrlBuilder.buildCreateRepoUrl())
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken(authUser))
                 .body(requestDTO)
                 .retrieve()
@@ -99,8 +84,8 @@ public class GithubApiRestClientService implements GithubApiService {
 
     @Override
     public void createGithubRepoReadme(CustomOAuth2User authUser, String repoName, ExportGithubRepoFileApiRequestDTO requestDTO) {
-        restClient.put()
-                .uri(GithubUrlBuilder.buildCreateRepoReadmeUrl(authUser, repoName))
+        githubRestClient.put()
+                .uri(githubUrlBuilder.buildCreateRepoReadmeUrl(authUser, repoName))
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken(authUser))
                 .body(requestDTO)
                 .retrieve()
@@ -109,8 +94,8 @@ public class GithubApiRestClientService implements GithubApiService {
 
     @Override
     public List<GithubRepoApiResponseDTO> getGithubRepoList(CustomOAuth2User authUser) {
-        return restClient.get()
-                .uri(GithubUrlBuilder.buildRepoListUrl(authUser))
+        return githubRestClient.get()
+                .uri(githubUrlBuilder.buildRepoListUrl(authUser))
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken(authUser))
                 .retrieve()
                 .body(new ParameterizedTypeReference<>() {
@@ -120,8 +105,8 @@ public class GithubApiRestClientService implements GithubApiService {
     @Override
     public Optional<GithubRepoFileApiResponseDTO> importGithubRepoFile(CustomOAuth2User authUser, DataSet dataName, String modelName) {
         try {
-            return restClient.get()
-                    .uri(GithubUrlBuilder.buildRepoFileUrl(authUser, dataName, modelName))
+            return githubRestClient.get()
+                    .uri(githubUrlBuilder.buildRepoFileUrl(authUser, dataName, modelName))
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken(authUser))
                     .retrieve()
                     .body(new ParameterizedTypeReference<>() {
@@ -133,8 +118,8 @@ public class GithubApiRestClientService implements GithubApiService {
 
     @Override
     public void exportGithubRepoFile(CustomOAuth2User authUser, DataSet dataName, String modelName, ExportGithubRepoFileApiRequestDTO requestDTO) {
-        restClient.put()
-                .uri(GithubUrlBuilder.buildRepoFileUrl(authUser, dataName, modelName))
+        githubRestClient.put()
+                .uri(githubUrlBuilder.buildRepoFileUrl(authUser, dataName, modelName))
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken(authUser))
                 .body(requestDTO)
                 .retrieve()
@@ -37,6 +37,7 @@ public class GithubApiRestTemplateService implements GithubApiService {
     private final RedisTokenService redisTokenService;
     private final RedisOAuth2AuthorizedClientService redisOAuth2AuthorizedClientService;
     private final RestTemplate restTemplate;
+    private final GithubUrlBuilder githubUrlBuilder;
 
     // 인증된 유저의 AccessToken 반환
     private String getAccessToken(CustomOAuth2User authUser) {
@@ -81,7 +82,7 @@ public class GithubApiRestTemplateService implements GithubApiService {
 
     @Override
     public List<GithubEmailApiResponseDTO> getGithubEmailList(String accessToken) {
-        String url = GithubUrlBuilder.buildEmailListUrl();
+        String url = githubUrlBuilder.buildEmailListUrl();
 
         HttpEntity<Void> entity = new HttpEntity<>(createHeaders(accessToken));
         ResponseEntity<List<GithubEmailApiResponseDTO>> responseEntity = restTemplate.exchange(url, HttpMethod.GET, entity, new ParameterizedTypeReference<>() {
@@ -91,7 +92,7 @@ public class GithubApiRestTemplateService implements GithubApiService {
 
     @Override
     public void createGithubRepo(CustomOAuth2User authUser, CreateGithubRepoApiRequestDTO requestDTO) {
-        String url = GithubUrlBuilder.buildCreateRepoUrl();
+        String url = githubUrlBuilder.buildCreateRepoUrl();
 
         HttpEntity<CreateGithubRepoApiRequestDTO> entity = new HttpEntity<>(requestDTO, createHeaders(authUser));
         restTemplate.exchange(url, HttpMethod.POST, entity, Void.class);
@@ -99,7 +100,7 @@ public class GithubApiRestTemplateService implements GithubApiService {
 
     @Override
     public void createGithubRepoReadme(CustomOAuth2User authUser, String repoName, ExportGithubRepoFileApiRequestDTO requestDTO) {
-        String url = GithubUrlBuilder.buildCreateRepoReadmeUrl(authUser, repoName);
+        String url = githubUrlBuilder.buildCreateRepoReadmeUrl(authUser, repoName);
 
         HttpEntity<ExportGithubRepoFileApiRequestDTO> entity = new HttpEntity<>(requestDTO, createHeaders(authUser));
         restTemplate.exchange(url, HttpMethod.PUT, entity, Void.class);
@@ -107,7 +108,7 @@ public class GithubApiRestTemplateService implements GithubApiService {
 
     @Override
     public List<GithubRepoApiResponseDTO> getGithubRepoList(CustomOAuth2User authUser) {
-        String url = GithubUrlBuilder.buildRepoListUrl(authUser);
+        String url = githubUrlBuilder.buildRepoListUrl(authUser);
 
         HttpEntity<Void> entity = new HttpEntity<>(createHeaders(authUser));
         ResponseEntity<List<GithubRepoApiResponseDTO>> responseEntity = restTemplate.exchange(url, HttpMethod.GET, entity, new ParameterizedTypeReference<>() {
@@ -117,7 +118,7 @@ public class GithubApiRestTemplateService implements GithubApiService {
 
     @Override
     public Optional<GithubRepoFileApiResponseDTO> importGithubRepoFile(CustomOAuth2User authUser, DataSet dataName, String modelName) {
-        String url = GithubUrlBuilder.buildRepoFileUrl(authUser, dataName, modelName);
+        String url = githubUrlBuilder.buildRepoFileUrl(authUser, dataName, modelName);
 
         HttpEntity<Void> entity = new HttpEntity<>(createHeaders(authUser));
         try {
@@ -131,7 +132,7 @@ public class GithubApiRestTemplateService implements GithubApiService {
 
     @Override
     public void exportGithubRepoFile(CustomOAuth2User authUser, DataSet dataName, String modelName, ExportGithubRepoFileApiRequestDTO requestDTO) {
-        String url = GithubUrlBuilder.buildRepoFileUrl(authUser, dataName, modelName);
+        String url = githubUrlBuilder.buildRepoFileUrl(authUser, dataName, modelName);
 
         HttpEntity<ExportGithubRepoFileApiRequestDTO> entity = new HttpEntity<>(requestDTO, createHeaders(authUser));
         restTemplate.exchange(url, HttpMethod.PUT, entity, Void.class);
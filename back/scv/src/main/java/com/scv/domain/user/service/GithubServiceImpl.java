@@ -16,6 +16,7 @@ import com.scv.global.oauth2.auth.CustomOAuth2User;
 import com.scv.domain.user.dto.response.GithubRepoFileResponseDTO;
 import com.scv.domain.user.exception.GithubConflictException;
 import com.scv.domain.user.repository.UserRepository;
+import com.scv.domain.version.service.ModelVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
@@ -36,6 +37,7 @@ public class GithubServiceImpl implements GithubService {
     private final GithubApiService githubApiService;
     private final RedisTokenService redisTokenService;
     private final UserRepository userRepository;
+    private final ModelVersionService modelVersionService;
 
     // 깃허브에서 primary email 을 조회하는 메서드
     @Override
@@ -101,8 +103,13 @@ public class GithubServiceImpl implements GithubService {
                 .map(GithubRepoFileApiResponseDTO::getSha)
                 .orElse(null);
 
+        String content = requestDTO.getContent();
+        if ((content == null || content.isBlank()) && requestDTO.getModelVersionId() != null) {
+            content = modelVersionService.generateModelCode(requestDTO.getModelVersionId());
+        }
+
         ExportGithubRepoFileApiRequestDTO newRequestDTO = ExportGithubRepoFileApiRequestDTO.builder()
-                .content(Base64.getEncoder().encodeToString(requestDTO.getContent().getBytes(StandardCharsets.UTF_8)))
+                .content(Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8)))
                 .message(getExportMessage(requestDTO.getMessage(), requestDTO.getModelName(), requestDTO.getVersionNo(), sha))
                 .sha(sha)
                 .build();
@@ -6,11 +6,19 @@ import com.scv.global.oauth2.auth.AuthUser;
 import com.scv.global.oauth2.auth.CustomOAuth2User;
 import com.scv.domain.result.dto.response.ResultResponse;
 import com.scv.domain.result.dto.response.ResultResponseWithImages;
+import com.scv.domain.result.enums.ResultField;
+import com.scv.domain.version.dto.request.ModelVersionCloneRequest;
 import com.scv.domain.version.dto.request.ModelVersionRequest;
+import com.scv.domain.version.dto.response.ModelCodeResponse;
 import com.scv.domain.version.dto.response.ModelVersionDetail;
+import com.scv.domain.version.dto.response.ModelVersionDiffResponse;
 import com.scv.domain.version.dto.response.ModelVersionOnWorking;
+import com.scv.domain.version.dto.response.ModelVersionSparseDetail;
+import com.scv.domain.version.enums.VersionDetailField;
 import com.scv.domain.version.service.ModelVersionService;
 import com.scv.global.error.ErrorResponse;
+import com.scv.global.json.CompressedJson;
+import com.scv.global.json.CompressedJsonResponse;
 import com.scv.global.util.PageableUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,9 +30,12 @@ import lombok.RequiredArgsConstructor;
 import org.apache.coyote.BadRequestException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/models/versions")
 @Tag(name = "모델 버전 컨트롤러", description = "모델 버전 관련 API")
@@ -48,6 +59,20 @@ public class ModelVersionController {
         return ResponseEntity.status(201).body(modelResponse);
     }
 
+    // 모델 버전 일괄 복제
+    @PostMapping("/{modelId}/clone")
+    @Operation(summary = "모델버전 일괄 복제", description = "같은 모델의 여러 버전을 한 번에 새 버전으로 복제합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "모델버전 복제 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 모델 또는 모델버전", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<ModelCreateResponse>> cloneModelVersions(@PathVariable Long modelId, @RequestBody ModelVersionCloneRequest request, @AuthUser CustomOAuth2User user) throws BadRequestException {
+        List<ModelCreateResponse> modelResponses = modelVersionService.cloneModelVersions(modelId, request, user);
+
+        return ResponseEntity.status(201).body(modelResponses);
+    }
+
     // 모델 버전 상세 조회
     @GetMapping("/public/{versionId}")
     @Operation(summary = "모델버전 상세조회", description = "모델 버전을 조회합니다.")
@@ -61,6 +86,63 @@ public class ModelVersionController {
         return ResponseEntity.ok(modelVersion);
     }
 
+    // 모델 버전 부분 조회 (fields 가 있을 때)
+    @GetMapping(value = "/public/{versionId}", params = "fields")
+    @Operation(summary = "모델버전 부분조회", description = "fields 에 쉼표로 나열한 항목만 조회합니다. "
+            + "(layers, trainingCost, metrics, codeView, trainInfos, layerParams, confusionMatrix, exampleImg, "
+            + "featureActivation, activationMaximization, summary = layers + metrics)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "모델버전 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 모델버전", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ModelVersionSparseDetail> getModelVersion(@PathVariable Long versionId, @RequestParam String fields) {
+        ModelVersionSparseDetail modelVersion = modelVersionService.getModelVersion(versionId, VersionDetailField.parse(fields));
+
+        return ResponseEntity.ok(modelVersion);
+    }
+
+    // 모델 버전 비교
+    @GetMapping("/public/{versionId}/diff")
+    @Operation(summary = "모델버전 비교", description = "두 모델 버전의 레이어 구조 차이(추가, 삭제, 변경)와 결과 지표 차이를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "모델버전 비교 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 모델버전", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ModelVersionDiffResponse> diffModelVersions(@PathVariable Long versionId, @RequestParam Long targetVersionId) {
+        ModelVersionDiffResponse diff = modelVersionService.diffModelVersions(versionId, targetVersionId);
+
+        return ResponseEntity.ok(diff);
+    }
+
+    // 모델 버전 코드 조회
+    @GetMapping("/public/{versionId}/code")
+    @Operation(summary = "모델버전 코드 조회", description = "모델 버전의 PyTorch 코드를 조회합니다. 학습 전이면 레이어 구성으로 생성합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "모델버전 코드 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 모델버전", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ModelCodeResponse> getModelCode(@PathVariable Long versionId) {
+        ModelCodeResponse modelCode = modelVersionService.getModelCode(versionId);
+
+        return ResponseEntity.ok(modelCode);
+    }
+
+    // 결과 JSON 개별 조회 (gzip 을 받는 클라이언트에는 저장된 압축 바이트를 그대로 전송)
+    @GetMapping("/public/{versionId}/result/{field}")
+    @Operation(summary = "모델버전 결과 항목 조회", description = "학습 / 분석 결과 JSON 하나를 조회합니다. field = train-info, layer-params, confusion-matrix, example-img, feature-activation, activation-maximization")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "결과 항목 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 결과 또는 항목", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<byte[]> getResultField(@PathVariable Long versionId, @PathVariable String field,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CompressedJson json = modelVersionService.getResultField(versionId, ResultField.fromPathName(field));
+
+        return CompressedJsonResponse.of(json, acceptEncoding);
+    }
+
     // 모델 버전 수정
     @PatchMapping("/{versionId}")
     @Operation(summary = "모델버전  수정", description = "모델 버전을 수정합니다.")
@@ -0,0 +1,39 @@
+package com.scv.domain.version.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * 내용 해시로 저장되는 레이어 구성 (여러 버전이 공유, 수정하지 않음)
+ * baseHash 가 있으면 layers 는 base 의 앞 prefixCnt 개, 뒤 suffixCnt 개 사이를 대체하는 레이어 목록
+ */
+@Table(name = "layer_content")
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LayerContent {
+
+    @Id
+    @Column(name = "layer_hash", length = 64, nullable = false)
+    private String hash;
+
+    @Column(name = "base_hash", length = 64)
+    private String baseHash;
+
+    @Column(name = "layers", columnDefinition = "JSON", nullable = false)
+    private String layers;
+
+    @Column(name = "prefix_cnt", nullable = false)
+    private int prefixCnt;
+
+    @Column(name = "suffix_cnt", nullable = false)
+    private int suffixCnt;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+}
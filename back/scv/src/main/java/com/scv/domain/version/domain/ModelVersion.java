@@ -6,7 +6,9 @@ import com.scv.global.shared.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
-@Table(name = "model_version")
+@Table(name = "model_version", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_model_version_no", columnNames = {"model_id", "active_version_no"})
+})
 @Entity
 @Getter
 @Builder(toBuilder = true)
@@ -15,7 +17,9 @@ import lombok.*;
 public class ModelVersion extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 배치를 막으므로 테이블 기반 pooled 할당 (50개씩 미리 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "model_version_seq")
+    @SequenceGenerator(name = "model_version_seq", sequenceName = "model_version_seq", allocationSize = 50)
     @Column(name = "model_version_id", nullable = false)
     private Long id;
 
@@ -29,6 +33,16 @@ public class ModelVersion extends BaseEntity {
     @Column(name = "version_no", nullable = false)
     private int versionNo;
 
+    // 번호가 발급된 미삭제 버전만 값을 가짐 (미발급 0, 삭제된 버전은 NULL 이라 유니크 검사에서 제외)
+    @Column(name = "active_version_no", insertable = false, updatable = false,
+            columnDefinition = "INT GENERATED ALWAYS AS (CASE WHEN deleted = 0 AND version_no > 0 THEN version_no END) VIRTUAL")
+    private Integer activeVersionNo;
+
+    // layer_content 의 내용 해시 (버전 간 공유)
+    @Column(name = "layer_hash", length = 64)
+    private String layerHash;
+
+    // layer_hash 도입 이전에 저장된 버전의 레이어 (신규 저장 시 비움)
     @Column(name = "version_layer_at", columnDefinition = "JSON")
     private String layers;
 
@@ -47,10 +61,18 @@ public class ModelVersion extends BaseEntity {
     /**
      * 레이어 수정
      *
-     * @param layers
+     * @param layerHash 저장된 레이어 구성의 해시
+     */
+    public void updateLayerHash(String layerHash) {
+        this.layerHash = layerHash;
+        this.layers = null;
+    }
+
+    /**
+     * 학습 결과 연결 해제 (결과 삭제 전 호출, 연결이 남아 있으면 CascadeType.PERSIST 로 삭제가 취소됨)
      */
-    public void updateLayers(String layers) {
-        this.layers = layers;
+    public void removeResult() {
+        this.result = null;
     }
 
     /**
@@ -0,0 +1,8 @@
+package com.scv.domain.version.dto.request;
+
+import java.util.List;
+
+public record ModelVersionCloneRequest(
+        List<Long> modelVersionIds
+) {
+}
@@ -0,0 +1,7 @@
+package com.scv.domain.version.dto.response;
+
+public record LatestVersionAccuracy(
+        int versionNo,
+        Double testAccuracy
+) {
+}
@@ -0,0 +1,8 @@
+package com.scv.domain.version.dto.response;
+
+public record ModelCodeResponse(
+        Long modelVersionId,
+        String codeView,
+        boolean trained
+) {
+}
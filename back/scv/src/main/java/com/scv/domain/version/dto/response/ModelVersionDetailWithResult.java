@@ -1,15 +1,17 @@
 package com.scv.domain.version.dto.response;
 
 import com.scv.domain.result.dto.response.ResultResponseWithImages;
-import com.scv.domain.version.domain.ModelVersion;
+import com.scv.domain.version.dto.layer.LayerDTO;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 public class ModelVersionDetailWithResult extends ModelVersionDetail {
     private final ResultResponseWithImages resultResponseWithImages;
 
-    public ModelVersionDetailWithResult(ModelVersion modelVersion, ResultResponseWithImages resultResponseWithImages) {
-        super(modelVersion);
+    public ModelVersionDetailWithResult(Long modelVersionId, List<LayerDTO> layers, TrainingCostResponse trainingCost, ResultResponseWithImages resultResponseWithImages) {
+        super(modelVersionId, layers, trainingCost);
         this.resultResponseWithImages = resultResponseWithImages;
     }
 
@@ -0,0 +1,39 @@
+package com.scv.domain.version.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.scv.domain.result.dto.response.ResultMetricResponse;
+import com.scv.domain.version.enums.LayerDiffType;
+
+import java.util.List;
+import java.util.Map;
+
+public record ModelVersionDiffResponse(
+        Long baseVersionId,
+        Long targetVersionId,
+        List<LayerDiff> layerDiffs,
+        ResultMetricResponse baseMetric,
+        ResultMetricResponse targetMetric,
+        MetricDelta metricDelta
+) {
+    public record LayerDiff(
+            LayerDiffType type,
+            Integer baseIndex,
+            Integer targetIndex,
+            String layerName,
+            Map<String, ParamChange> paramChanges
+    ) {
+    }
+
+    public record ParamChange(
+            JsonNode before,
+            JsonNode after
+    ) {
+    }
+
+    public record MetricDelta(
+            Double testAccuracy,
+            Double testLoss,
+            Integer totalParams
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.scv.domain.version.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레이어 / 학습 비용 계산에 필요한 버전 컬럼만 읽은 결과 (엔티티를 읽으면 결과 행 전체가 함께 조회됨)
+ */
+public record ModelVersionLayerSource(
+        Long modelVersionId,
+        Long modelId,
+        LocalDateTime updatedAt,
+        String layerHash,
+        String layers,
+        int dataId
+) {
+}
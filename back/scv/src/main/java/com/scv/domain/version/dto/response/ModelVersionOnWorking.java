@@ -21,7 +21,7 @@ public record ModelVersionOnWorking(
                 modelVersion.getModel().getName(),
                 modelVersion.getId(),
                 modelVersion.getVersionNo(),
-                modelVersion.getModel().getData().getName(),
+                DataSet.fromId(modelVersion.getModel().getData().getId()),
                 modelVersion.getResult() != null ? modelVersion.getResult().getTestAccuracy() : 0.0,
                 modelVersion.getCreatedAt(),
                 modelVersion.getUpdatedAt()
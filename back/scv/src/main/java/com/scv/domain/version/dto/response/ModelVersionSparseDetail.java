@@ -0,0 +1,22 @@
+package com.scv.domain.version.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.scv.domain.result.dto.response.ResultSparseResponse;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * fields 로 고른 항목만 담은 모델 버전 상세 (키 구조는 ModelVersionDetailWithResult 와 같음)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ModelVersionSparseDetail {
+    private final Long modelVersionId;
+    private final List<LayerDTO> layers;
+    private final TrainingCostResponse trainingCost;
+    private final ResultSparseResponse resultResponseWithImages;
+}
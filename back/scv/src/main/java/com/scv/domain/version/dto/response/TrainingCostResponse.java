@@ -0,0 +1,10 @@
+package com.scv.domain.version.dto.response;
+
+public record TrainingCostResponse(
+        long forwardFlops,
+        long totalFlops,
+        long totalParams,
+        long peakMemoryBytes,
+        double expectedSeconds
+) {
+}
@@ -0,0 +1,7 @@
+package com.scv.domain.version.enums;
+
+public enum LayerDiffType {
+    INSERTED,
+    REMOVED,
+    CHANGED
+}
@@ -0,0 +1,67 @@
+package com.scv.domain.version.enums;
+
+import com.scv.domain.result.enums.ResultField;
+import com.scv.domain.version.exception.InvalidVersionFieldException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 모델 버전 상세 조회의 fields 파라미터로 고를 수 있는 항목 (이름은 전체 응답의 JSON 키와 같음)
+ * summary 는 목록 썸네일 / 비교 화면용 묶음 (layers, metrics)
+ */
+@Getter
+@AllArgsConstructor
+public enum VersionDetailField {
+
+    LAYERS("layers", null),
+    TRAINING_COST("trainingCost", null),
+    // testAccuracy, testLoss, totalParams
+    METRICS("metrics", null),
+    CODE_VIEW("codeView", null),
+    TRAIN_INFOS("trainInfos", ResultField.TRAIN_INFO),
+    LAYER_PARAMS("layerParams", ResultField.LAYER_PARAMS),
+    CONFUSION_MATRIX("confusionMatrix", ResultField.CONFUSION_MATRIX),
+    EXAMPLE_IMG("exampleImg", ResultField.EXAMPLE_IMG),
+    FEATURE_ACTIVATION("featureActivation", ResultField.FEATURE_ACTIVATION),
+    ACTIVATION_MAXIMIZATION("activationMaximization", ResultField.ACTIVATION_MAXIMIZATION);
+
+    private static final String SUMMARY = "summary";
+
+    private final String fieldName;
+    // 압축 저장되는 결과 컬럼 (없으면 null)
+    private final ResultField resultField;
+
+    /**
+     * 쉼표로 구분된 항목 이름 파싱
+     */
+    public static Set<VersionDetailField> parse(String fields) {
+        Set<VersionDetailField> selected = EnumSet.noneOf(VersionDetailField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (SUMMARY.equals(trimmed)) {
+                selected.add(LAYERS);
+                selected.add(METRICS);
+                continue;
+            }
+            selected.add(fromFieldName(trimmed));
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidVersionFieldException();
+        }
+        return selected;
+    }
+
+    public static VersionDetailField fromFieldName(String fieldName) {
+        return Arrays.stream(values())
+                .filter(field -> field.fieldName.equals(fieldName))
+                .findFirst()
+                .orElseThrow(InvalidVersionFieldException::new);
+    }
+}
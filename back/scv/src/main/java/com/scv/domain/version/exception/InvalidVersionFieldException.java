@@ -0,0 +1,10 @@
+package com.scv.domain.version.exception;
+
+import com.scv.global.error.ErrorCode;
+import com.scv.global.error.ServiceException;
+
+public class InvalidVersionFieldException extends ServiceException {
+    public InvalidVersionFieldException() {
+        super(ErrorCode.INVALID_VERSION_FIELD);
+    }
+}
@@ -0,0 +1,10 @@
+package com.scv.domain.version.exception;
+
+import com.scv.global.error.ErrorCode;
+import com.scv.global.error.ServiceException;
+
+public class TrainingBudgetExceededException extends ServiceException {
+    public TrainingBudgetExceededException() {
+        super(ErrorCode.TRAINING_BUDGET_EXCEEDED);
+    }
+}
@@ -0,0 +1,23 @@
+package com.scv.domain.version.repository;
+
+import com.scv.domain.version.domain.LayerContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LayerContentRepository extends JpaRepository<LayerContent, String> {
+
+    // 같은 해시가 동시에 저장돼도 내용이 같으므로 무시
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO layer_content (layer_hash, base_hash, layers, prefix_cnt, suffix_cnt, depth) " +
+            "VALUES (:hash, :baseHash, :layers, :prefixCnt, :suffixCnt, :depth)", nativeQuery = true)
+    void insertIfAbsent(@Param("hash") String hash,
+                        @Param("baseHash") String baseHash,
+                        @Param("layers") String layers,
+                        @Param("prefixCnt") int prefixCnt,
+                        @Param("suffixCnt") int suffixCnt,
+                        @Param("depth") int depth);
+}
@@ -2,14 +2,23 @@ package com.scv.domain.version.repository;
 
 import com.scv.domain.data.enums.DataSet;
 import com.scv.domain.version.domain.ModelVersion;
+import com.scv.domain.version.dto.response.LatestVersionAccuracy;
+import com.scv.domain.version.dto.response.ModelVersionLayerSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ModelVersionRepositoryCustom {
     List<ModelVersion> findAllByModelIdAndDeletedFalse(Long id);
 
+    Optional<ModelVersion> findWithModelAndResultById(Long id);
+
+    Optional<ModelVersionLayerSource> findLayerSourceById(Long id);
+
+    Optional<LatestVersionAccuracy> findLatestVersionAccuracy(Long modelId);
+
     Page<ModelVersion> findAllByUserAndIsWorkingTrueAndDeletedFalse(
             String modelName, DataSet dataName, Long userId, Pageable pageable);
 
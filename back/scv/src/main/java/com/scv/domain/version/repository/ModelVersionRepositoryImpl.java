@@ -1,19 +1,25 @@
 package com.scv.domain.version.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.scv.domain.data.enums.DataSet;
 import com.scv.domain.version.domain.ModelVersion;
+import com.scv.domain.version.dto.response.LatestVersionAccuracy;
+import com.scv.domain.version.dto.response.ModelVersionLayerSource;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static com.scv.domain.model.domain.QModel.model;
+import static com.scv.domain.result.domain.QResult.result;
 import static com.scv.domain.version.domain.QModelVersion.modelVersion;
 
 @RequiredArgsConstructor
@@ -33,13 +39,75 @@ public class ModelVersionRepositoryImpl implements ModelVersionRepositoryCustom
                 .fetch();
     }
 
+    /**
+     * 작성자 확인용 단건 조회 (모델과 결과를 한 번에 읽음, 삭제된 버전은 제외)
+     * 결과는 mappedBy 쪽 OneToOne 이라 지연 로딩되지 않으므로 따로 조회하면 쿼리가 추가로 나감
+     */
+    @Override
+    public Optional<ModelVersion> findWithModelAndResultById(Long id) {
+        return Optional.ofNullable(queryFactory
+                .selectFrom(modelVersion)
+                .join(modelVersion.model, model).fetchJoin()
+                .leftJoin(modelVersion.result).fetchJoin()
+                .where(
+                        modelVersion.id.eq(id),
+                        modelVersion.deleted.isFalse()
+                )
+                .fetchOne());
+    }
+
+    /**
+     * 부분 조회용 단건 조회 (엔티티 대신 필요한 컬럼만 읽어 결과 행이 함께 로딩되지 않도록 함, 삭제된 버전은 제외)
+     */
+    @Override
+    public Optional<ModelVersionLayerSource> findLayerSourceById(Long id) {
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(ModelVersionLayerSource.class,
+                        modelVersion.id,
+                        model.id,
+                        modelVersion.updatedAt,
+                        modelVersion.layerHash,
+                        modelVersion.layers,
+                        model.data.id
+                ))
+                .from(modelVersion)
+                .join(modelVersion.model, model)
+                .where(
+                        modelVersion.id.eq(id),
+                        modelVersion.deleted.isFalse()
+                )
+                .fetchOne());
+    }
+
+    /**
+     * 번호가 발급된 미삭제 버전 중 가장 최신 버전의 번호와 정확도 (결과가 없으면 정확도 null)
+     * 수정으로 결과가 지워진 버전도 번호는 계속 차지하므로 결과 유무와 관계없이 최대 번호를 반환 (다음 발급 번호와 겹치지 않음)
+     * uk_model_version_no (model_id, active_version_no) 인덱스를 역순으로 한 행만 읽음
+     */
+    @Override
+    public Optional<LatestVersionAccuracy> findLatestVersionAccuracy(Long modelId) {
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(LatestVersionAccuracy.class,
+                        modelVersion.versionNo,
+                        result.testAccuracy
+                ))
+                .from(modelVersion)
+                .leftJoin(modelVersion.result, result).on(result.deleted.isFalse())
+                .where(
+                        modelVersion.model.id.eq(modelId),
+                        modelVersion.activeVersionNo.isNotNull()
+                )
+                .orderBy(modelVersion.activeVersionNo.desc())
+                .limit(1)
+                .fetchOne());
+    }
+
     @Override
     public Page<ModelVersion> findAllByUserAndIsWorkingTrueAndDeletedFalse(
             String modelName, DataSet dataName, Long userId, Pageable pageable) {
         JPAQuery<ModelVersion> query = queryFactory
                 .selectFrom(modelVersion)
                 .leftJoin(modelVersion.model, model).fetchJoin()
-                .leftJoin(model.data).fetchJoin()
                 .leftJoin(modelVersion.result).fetchJoin()
                 .where(
                         modelVersion.model.user.userId.eq(userId),
@@ -74,6 +142,7 @@ public class ModelVersionRepositoryImpl implements ModelVersionRepositoryCustom
         queryFactory
                 .update(modelVersion)
                 .set(modelVersion.deleted, true)
+                .set(modelVersion.updatedAt, LocalDateTime.now())
                 .where(
                         modelVersion.model.id.eq(modelId),
                         modelVersion.deleted.isFalse()
@@ -86,6 +155,7 @@ public class ModelVersionRepositoryImpl implements ModelVersionRepositoryCustom
         queryFactory
                 .update(modelVersion)
                 .set(modelVersion.deleted, true)
+                .set(modelVersion.updatedAt, LocalDateTime.now())
                 .where(modelVersion.id.eq(modelVersionId))
                 .execute();
     }
@@ -107,6 +177,6 @@ public class ModelVersionRepositoryImpl implements ModelVersionRepositoryCustom
     }
 
     private BooleanExpression containsDataName(DataSet dataName) {
-        return dataName != null ? model.data.name.stringValue().containsIgnoreCase(dataName.getName()) : null;
+        return dataName != null ? model.data.id.eq(dataName.getId()) : null;
     }
 }
@@ -0,0 +1,94 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.response.ModelVersionLayerSource;
+import com.scv.global.util.ParsingUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 모델 버전별 파싱된 레이어 캐시
+ * (modelVersionId, updatedAt) 이 같을 때만 캐시를 사용하고, 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ * updatedAt 은 DB 컬럼(datetime(6))과 같은 마이크로초 단위로 비교
+ */
+@Component
+public class LayerCache {
+
+    private final LayerStore layerStore;
+    private final Map<Long, Entry> cache;
+
+    public LayerCache(LayerStore layerStore, @Value("${spring.layer-cache.max-size:1000}") int maxSize) {
+        this.layerStore = layerStore;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 레이어 반환, 없거나 수정된 버전이면 파싱 후 저장
+     */
+    public List<LayerDTO> getLayers(ModelVersion modelVersion) {
+        return getLayers(modelVersion.getId(), modelVersion.getUpdatedAt(), modelVersion.getLayerHash(), modelVersion.getLayers());
+    }
+
+    /**
+     * 엔티티 없이 컬럼만 조회한 경우
+     */
+    public List<LayerDTO> getLayers(ModelVersionLayerSource source) {
+        return getLayers(source.modelVersionId(), source.updatedAt(), source.layerHash(), source.layers());
+    }
+
+    private List<LayerDTO> getLayers(Long modelVersionId, LocalDateTime updatedAt, String layerHash, String layersJson) {
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(modelVersionId);
+        }
+        if (entry != null && Objects.equals(entry.updatedAt(), micros(updatedAt))) {
+            return entry.layers();
+        }
+
+        List<LayerDTO> layers = layerHash != null
+                ? layerStore.load(layerHash)
+                : ParsingUtil.parseJsonToList(layersJson, LayerDTO.class);
+        return put(modelVersionId, updatedAt, layers);
+    }
+
+    /**
+     * 저장된 레이어로 캐시 갱신 (updatedAt 반영을 위해 flush 이후 호출)
+     */
+    public List<LayerDTO> put(ModelVersion modelVersion, List<LayerDTO> layers) {
+        return put(modelVersion.getId(), modelVersion.getUpdatedAt(), layers);
+    }
+
+    private List<LayerDTO> put(Long modelVersionId, LocalDateTime updatedAt, List<LayerDTO> layers) {
+        List<LayerDTO> immutableLayers = List.copyOf(layers);
+        synchronized (cache) {
+            cache.put(modelVersionId, new Entry(micros(updatedAt), immutableLayers));
+        }
+        return immutableLayers;
+    }
+
+    public void evict(Long modelVersionId) {
+        synchronized (cache) {
+            cache.remove(modelVersionId);
+        }
+    }
+
+    private static LocalDateTime micros(LocalDateTime time) {
+        return time == null ? null : time.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private record Entry(LocalDateTime updatedAt, List<LayerDTO> layers) {
+    }
+}
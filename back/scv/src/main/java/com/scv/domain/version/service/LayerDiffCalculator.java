@@ -0,0 +1,82 @@
+package com.scv.domain.version.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.response.ModelVersionDiffResponse.LayerDiff;
+import com.scv.domain.version.dto.response.ModelVersionDiffResponse.ParamChange;
+import com.scv.domain.version.enums.LayerDiffType;
+import com.scv.global.util.ParsingUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 두 레이어 구성의 구조 비교
+ * 레이어 종류의 최장 공통 부분 수열(LCS)로 정렬한 뒤, 짝지어진 레이어는 하이퍼파라미터를 비교
+ */
+@Component
+public class LayerDiffCalculator {
+
+    private static final String NAME_FIELD = "name";
+
+    public List<LayerDiff> diff(List<LayerDTO> baseLayers, List<LayerDTO> targetLayers) {
+        List<JsonNode> base = baseLayers.stream().map(ParsingUtil::toJsonNode).toList();
+        List<JsonNode> target = targetLayers.stream().map(ParsingUtil::toJsonNode).toList();
+
+        int n = base.size();
+        int m = target.size();
+        int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i][j] = layerName(base.get(i)).equals(layerName(target.get(j)))
+                        ? lcs[i + 1][j + 1] + 1
+                        : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+
+        List<LayerDiff> diffs = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < n || j < m) {
+            if (i < n && j < m && layerName(base.get(i)).equals(layerName(target.get(j)))) {
+                Map<String, ParamChange> changes = paramChanges(base.get(i), target.get(j));
+                if (!changes.isEmpty()) {
+                    diffs.add(new LayerDiff(LayerDiffType.CHANGED, i, j, layerName(base.get(i)), changes));
+                }
+                i++;
+                j++;
+            } else if (j < m && (i == n || lcs[i][j + 1] >= lcs[i + 1][j])) {
+                diffs.add(new LayerDiff(LayerDiffType.INSERTED, null, j, layerName(target.get(j)), Map.of()));
+                j++;
+            } else {
+                diffs.add(new LayerDiff(LayerDiffType.REMOVED, i, null, layerName(base.get(i)), Map.of()));
+                i++;
+            }
+        }
+        return diffs;
+    }
+
+    private Map<String, ParamChange> paramChanges(JsonNode before, JsonNode after) {
+        Set<String> fields = new TreeSet<>();
+        before.fieldNames().forEachRemaining(fields::add);
+        after.fieldNames().forEachRemaining(fields::add);
+        fields.remove(NAME_FIELD);
+
+        Map<String, ParamChange> changes = new LinkedHashMap<>();
+        for (String field : fields) {
+            JsonNode beforeValue = before.path(field);
+            JsonNode afterValue = after.path(field);
+            if (!beforeValue.equals(afterValue)) {
+                changes.put(field, new ParamChange(
+                        beforeValue instanceof MissingNode ? null : beforeValue,
+                        afterValue instanceof MissingNode ? null : afterValue));
+            }
+        }
+        return changes;
+    }
+
+    private String layerName(JsonNode layer) {
+        return layer.path(NAME_FIELD).asText();
+    }
+}
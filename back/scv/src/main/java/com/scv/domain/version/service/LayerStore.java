@@ -0,0 +1,106 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.user.exception.InternalServerException;
+import com.scv.domain.version.domain.LayerContent;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.exception.ModelVersionNotFoundException;
+import com.scv.domain.version.repository.LayerContentRepository;
+import com.scv.global.util.ParsingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 레이어 구성을 내용 해시(SHA-256)로 한 번만 저장하고, 버전은 해시만 참조
+ * 기존 구성과 앞뒤가 겹치면 바뀐 구간만 delta 로 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class LayerStore {
+
+    private final LayerContentRepository layerContentRepository;
+
+    @Value("${spring.layer-store.delta-enabled:true}")
+    private boolean deltaEnabled;
+
+    @Value("${spring.layer-store.max-delta-depth:8}")
+    private int maxDeltaDepth;
+
+    /**
+     * 레이어 구성 저장
+     *
+     * @param layers   저장할 레이어
+     * @param baseHash delta 기준이 될 이전 구성의 해시 (없으면 null)
+     * @return 내용 해시
+     */
+    public String save(List<LayerDTO> layers, String baseHash) {
+        String json = ParsingUtil.toJson(layers);
+        String hash = hash(json);
+        if (layerContentRepository.existsById(hash)) {
+            return hash;
+        }
+
+        Optional<LayerContent> base = deltaEnabled && baseHash != null
+                ? layerContentRepository.findById(baseHash).filter(content -> content.getDepth() < maxDeltaDepth)
+                : Optional.empty();
+
+        if (base.isPresent()) {
+            List<String> current = layers.stream().map(ParsingUtil::toJson).toList();
+            List<String> previous = load(base.get()).stream().map(ParsingUtil::toJson).toList();
+
+            int prefix = 0;
+            while (prefix < current.size() && prefix < previous.size() && current.get(prefix).equals(previous.get(prefix))) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < current.size() - prefix && suffix < previous.size() - prefix
+                    && current.get(current.size() - 1 - suffix).equals(previous.get(previous.size() - 1 - suffix))) {
+                suffix++;
+            }
+
+            if (prefix + suffix > 0) {
+                String middle = ParsingUtil.toJson(layers.subList(prefix, layers.size() - suffix));
+                layerContentRepository.insertIfAbsent(hash, baseHash, middle, prefix, suffix, base.get().getDepth() + 1);
+                return hash;
+            }
+        }
+
+        layerContentRepository.insertIfAbsent(hash, null, json, 0, 0, 0);
+        return hash;
+    }
+
+    public List<LayerDTO> load(String hash) {
+        return load(layerContentRepository.findById(hash).orElseThrow(ModelVersionNotFoundException::new));
+    }
+
+    private List<LayerDTO> load(LayerContent content) {
+        List<LayerDTO> layers = ParsingUtil.parseJsonToList(content.getLayers(), LayerDTO.class);
+        if (content.getBaseHash() == null) {
+            return layers;
+        }
+
+        List<LayerDTO> base = load(content.getBaseHash());
+        List<LayerDTO> merged = new ArrayList<>(content.getPrefixCnt() + layers.size() + content.getSuffixCnt());
+        merged.addAll(base.subList(0, content.getPrefixCnt()));
+        merged.addAll(layers);
+        merged.addAll(base.subList(base.size() - content.getSuffixCnt(), base.size()));
+        return merged;
+    }
+
+    private String hash(String json) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(json.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw InternalServerException.getInstance();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.scv.domain.version.service;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.version.dto.layer.FlattenDTO;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.layer.convolution.Conv2dDTO;
+import com.scv.domain.version.dto.layer.convolution.ConvTranspose2dDTO;
+import com.scv.domain.version.dto.layer.linear.LinearDTO;
+import com.scv.domain.version.dto.layer.nonlinear.*;
+import com.scv.domain.version.dto.layer.pooling.AvgPool2dDTO;
+import com.scv.domain.version.dto.layer.pooling.MaxPool2dDTO;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 레이어 구성으로 PyTorch nn.Module 코드 생성
+ * 학습 서버의 model_code_generator.py 출력과 동일한 형식 (학습 없이 코드 보기, 깃허브 export 용)
+ */
+@Component
+public class ModelCodeGenerator {
+
+    private static final String INDENT = "    ";
+
+    private static final String HEADER_TEMPLATE = String.join("\n",
+            "import torch",
+            "import torch.nn as nn",
+            "",
+            "# 모델 이름: %s",
+            "# 데이터셋: %s",
+            "# 학습 데이터 수: %d",
+            "# 테스트 데이터 수: %d",
+            "# 레이블 수: %d",
+            "# 에폭 수: %d",
+            "",
+            "class Model(nn.Module):",
+            INDENT + "def __init__(self):",
+            INDENT + INDENT + "super().__init__()",
+            "");
+
+    private static final String LAYER_TEMPLATE = INDENT + INDENT + "self.layer%d = nn.%s(%s)";
+
+    private static final String FORWARD_HEADER = String.join("\n",
+            "",
+            INDENT + "def forward(self, x):",
+            INDENT + INDENT + "# Input shape: [batch_size, channels, height, width]");
+
+    private static final String FORWARD_TEMPLATE = INDENT + INDENT + "x = self.layer%d(x)";
+
+    // 학습 서버는 dataset_info 에 input shape 를 넘기지 않으므로 기본값(1, 28, 28) 사용
+    private static final String FOOTER = String.join("\n",
+            INDENT + INDENT + "return x",
+            "",
+            "if __name__ == '__main__':",
+            INDENT + "# 모델 인스턴스 생성",
+            INDENT + "model = Model()",
+            INDENT + "print('모델 구조:')",
+            INDENT + "print(model)",
+            INDENT,
+            INDENT + "# 입력 텐서 예제",
+            INDENT + "batch_size = 1  # 배치 크기",
+            INDENT + "channels = 1  # 입력 채널 수",
+            INDENT + "height = 28  # 입력 높이",
+            INDENT + "width = 28  # 입력 너비",
+            INDENT + "x = torch.randn(batch_size, channels, height, width)",
+            INDENT,
+            INDENT + "# 순전파 실행",
+            INDENT + "output = model(x)",
+            INDENT + "print(f'입력 shape: {x.shape}')",
+            INDENT + "print(f'출력 shape: {output.shape}')");
+
+    public String generate(Long modelId, Long modelVersionId, List<LayerDTO> layers, Data data) {
+        String dataName = "Fashion".equals(data.getName().toString()) ? "FASHION_MNIST" : data.getName().toString();
+
+        StringBuilder code = new StringBuilder(1024);
+        code.append(String.format(HEADER_TEMPLATE, "model_" + modelId + "_v" + modelVersionId, dataName,
+                data.getTrainCnt(), data.getTestCnt(), data.getLabelCnt(), data.getEpochCnt()));
+
+        for (int i = 0; i < layers.size(); i++) {
+            LayerDTO layer = layers.get(i);
+            code.append('\n').append(String.format(LAYER_TEMPLATE, i, layerName(layer), params(layer)));
+        }
+
+        code.append('\n').append(FORWARD_HEADER);
+        for (int i = 0; i < layers.size(); i++) {
+            code.append('\n').append(String.format(FORWARD_TEMPLATE, i));
+        }
+        code.append('\n').append(FOOTER);
+
+        return code.toString();
+    }
+
+    /**
+     * nn.Module 에서 추출되는 파라미터와 같은 값, 같은 순서로 생성
+     * (패딩, ReLU 등 추출 대상이 아닌 레이어는 파라미터 없이 생성됨)
+     */
+    private String params(LayerDTO layer) {
+        return switch (layer) {
+            case Conv2dDTO conv -> convolution(conv.getInChannels(), conv.getOutChannels(), conv.getKernelSize());
+            case ConvTranspose2dDTO conv -> convolution(conv.getInChannels(), conv.getOutChannels(), conv.getKernelSize());
+            case MaxPool2dDTO pool -> pooling(pool.getKernelSize(), pool.getStride());
+            case AvgPool2dDTO pool -> pooling(pool.getKernelSize(), pool.getStride());
+            case LinearDTO linear -> "in_features=" + linear.getInFeatures()
+                    + ", out_features=" + linear.getOutFeatures()
+                    + ", bias=True";
+            case LeakyReLUDTO leakyReLU -> "negative_slope=" + pythonFloat(leakyReLU.getNegativeSlope());
+            case ELUDTO elu -> "alpha=" + pythonFloat(elu.getAlpha());
+            case PReLUDTO prelu -> "num_parameters=" + prelu.getNumParameters();
+            case SoftmaxDTO softmax -> "dim=" + softmax.getDim();
+            case LogSoftmaxDTO logSoftmax -> "dim=" + logSoftmax.getDim();
+            case FlattenDTO flatten -> "start_dim=1, end_dim=-1";
+            default -> "";
+        };
+    }
+
+    private String convolution(int inChannels, int outChannels, int kernelSize) {
+        return "in_channels=" + inChannels
+                + ", out_channels=" + outChannels
+                + ", kernel_size=(" + kernelSize + ", " + kernelSize + ")"
+                + ", stride=(1, 1), padding=(0, 0), dilation=(1, 1), groups=1, padding_mode='zeros', bias=True";
+    }
+
+    private String pooling(int kernelSize, int stride) {
+        return "kernel_size=" + kernelSize
+                + ", stride=" + (stride > 0 ? stride : kernelSize)
+                + ", padding=0";
+    }
+
+    /**
+     * 파이썬 repr(float) 형식 (1.0, 0.01, 1e-05, 1.5e+16)
+     * 숫자는 Double.toString 과 같은 최단 표현, 10 의 지수가 -4 미만 또는 16 이상이면 지수 표기
+     */
+    private String pythonFloat(double value) {
+        BigDecimal decimal = new BigDecimal(Double.toString(value)).stripTrailingZeros();
+        int exponent = decimal.precision() - decimal.scale() - 1;
+        if (decimal.signum() == 0 || (exponent >= -4 && exponent < 16)) {
+            String plain = decimal.toPlainString();
+            return plain.contains(".") ? plain : plain + ".0";
+        }
+
+        String digits = decimal.unscaledValue().abs().toString();
+        String mantissa = digits.length() == 1 ? digits : digits.charAt(0) + "." + digits.substring(1);
+        return (decimal.signum() < 0 ? "-" : "") + mantissa
+                + "e" + (exponent < 0 ? "-" : "+") + String.format("%02d", Math.abs(exponent));
+    }
+
+    private String layerName(LayerDTO layer) {
+        return layer.getClass().getAnnotation(JsonTypeName.class).value();
+    }
+}
@@ -5,8 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.scv.domain.data.domain.Data;
 import com.scv.domain.data.enums.DataSet;
-import com.scv.domain.data.exception.DataNotFoundException;
-import com.scv.domain.data.repository.DataRepository;
+import com.scv.domain.data.service.DataRegistry;
 import com.scv.domain.model.domain.Model;
 import com.scv.domain.model.dto.response.ModelCreateResponse;
 import com.scv.domain.model.exception.ModelNotFoundException;
@@ -15,33 +14,53 @@ import com.scv.global.util.UrlUtil;
 import com.scv.global.oauth2.auth.CustomOAuth2User;
 import com.scv.domain.result.domain.Result;
 import com.scv.domain.result.dto.request.ResultRequest;
+import com.scv.domain.result.dto.response.ResultMetricResponse;
 import com.scv.domain.result.dto.response.ResultResponse;
 import com.scv.domain.result.dto.response.ResultResponseWithImages;
+import com.scv.domain.result.dto.response.ResultSparseResponse;
+import com.scv.domain.result.enums.ResultField;
 import com.scv.domain.result.exception.ResultNotFoundException;
 import com.scv.domain.result.repository.ResultRepository;
 import com.scv.domain.version.domain.ModelVersion;
 import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.request.ModelVersionCloneRequest;
 import com.scv.domain.version.dto.request.ModelVersionRequest;
+import com.scv.domain.version.dto.response.LatestVersionAccuracy;
+import com.scv.domain.version.dto.response.ModelCodeResponse;
 import com.scv.domain.version.dto.response.ModelVersionDetail;
 import com.scv.domain.version.dto.response.ModelVersionDetailWithResult;
+import com.scv.domain.version.dto.response.ModelVersionDiffResponse;
+import com.scv.domain.version.dto.response.ModelVersionLayerSource;
 import com.scv.domain.version.dto.response.ModelVersionOnWorking;
+import com.scv.domain.version.dto.response.ModelVersionSparseDetail;
+import com.scv.domain.version.dto.response.TrainingCostResponse;
+import com.scv.domain.version.enums.VersionDetailField;
 import com.scv.domain.version.exception.ModelVersionNotFoundException;
 import com.scv.domain.version.repository.ModelVersionRepository;
+import com.scv.global.bulkhead.BulkheadFullException;
+import com.scv.global.json.CompressedJson;
+import com.scv.global.metrics.FastApiMetrics;
 import com.scv.global.util.ParsingUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -49,43 +68,194 @@ import java.util.*;
 @Transactional
 public class ModelVersionService {
 
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
     private final ModelRepository modelRepository;
     private final ModelVersionRepository modelVersionRepository;
     private final ResultRepository resultRepository;
-    private final DataRepository dataRepository;
+    private final DataRegistry dataRegistry;
     private final UrlUtil urlUtil;
+    private final TrainingCostEstimator trainingCostEstimator;
+    private final TrainingDispatcher trainingDispatcher;
+    private final LayerCache layerCache;
+    private final LayerStore layerStore;
+    private final LayerDiffCalculator layerDiffCalculator;
+    private final ModelCodeGenerator modelCodeGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final VersionNoAllocator versionNoAllocator;
+    private final FastApiMetrics fastApiMetrics;
+    private final RestTemplate fastApiRestTemplate;
+
+    @Value("${spring.version-clone.max-size:50}")
+    private int cloneMaxSize;
 
     // 모델 버전 생성
     public ModelCreateResponse createModelVersion(Long modelId, Long modelVersionId, CustomOAuth2User user) throws BadRequestException {
         Model model = modelRepository.findById(modelId).orElseThrow(ModelNotFoundException::new);
         ModelVersion modelVersion = modelVersionRepository.findById(modelVersionId).orElseThrow(ModelNotFoundException::new);
-        if (user.getUserId() != model.getUser().getUserId()) {
+        if (!user.getUserId().equals(model.getUser().getUserId())) {
             throw new BadRequestException("모델의 제작자만 생성할 수 있습니다.");
         }
 
+        // 레이어는 해시만 복사 (이전 방식으로 저장된 버전이면 먼저 layer_content 로 옮김)
+        List<LayerDTO> layers = layerCache.getLayers(modelVersion);
+        String layerHash = modelVersion.getLayerHash() != null
+                ? modelVersion.getLayerHash()
+                : layerStore.save(layers, null);
+
         ModelVersion newModelVersion = ModelVersion.builder()
                 .model(model)
                 .versionNo(0)
-                .layers(modelVersion.getLayers())
+                .layerHash(layerHash)
                 .build();
 
         modelVersionRepository.save(newModelVersion);
+        layerCache.put(newModelVersion, layers);
         return new ModelCreateResponse(newModelVersion);
     }
 
 
+    // 모델 버전 일괄 복제 (같은 모델의 버전들을 새 버전으로 복제, insert 는 JDBC 배치로 전송)
+    public List<ModelCreateResponse> cloneModelVersions(Long modelId, ModelVersionCloneRequest request, CustomOAuth2User user) throws BadRequestException {
+        List<Long> sourceIds = request.modelVersionIds() != null ? request.modelVersionIds() : List.of();
+        if (sourceIds.isEmpty() || sourceIds.size() > cloneMaxSize) {
+            throw new BadRequestException("한 번에 1개 이상 " + cloneMaxSize + "개 이하의 버전만 복제할 수 있습니다.");
+        }
+
+        Model model = modelRepository.findById(modelId).orElseThrow(ModelNotFoundException::new);
+        if (!user.getUserId().equals(model.getUser().getUserId())) {
+            throw new BadRequestException("모델의 제작자만 생성할 수 있습니다.");
+        }
+
+        Map<Long, ModelVersion> sources = new HashMap<>();
+        for (ModelVersion source : modelVersionRepository.findAllById(sourceIds)) {
+            sources.put(source.getId(), source);
+        }
+
+        List<ModelVersion> clones = new ArrayList<>(sourceIds.size());
+        List<List<LayerDTO>> cloneLayers = new ArrayList<>(sourceIds.size());
+        for (Long sourceId : sourceIds) {
+            ModelVersion source = sources.get(sourceId);
+            if (source == null || source.isDeleted() || !modelId.equals(source.getModel().getId())) {
+                throw new ModelVersionNotFoundException();
+            }
+
+            List<LayerDTO> layers = layerCache.getLayers(source);
+            String layerHash = source.getLayerHash() != null
+                    ? source.getLayerHash()
+                    : layerStore.save(layers, null);
+
+            clones.add(ModelVersion.builder()
+                    .model(model)
+                    .versionNo(0)
+                    .layerHash(layerHash)
+                    .build());
+            cloneLayers.add(layers);
+        }
+
+        modelVersionRepository.saveAll(clones);
+        modelVersionRepository.flush();
+
+        for (int i = 0; i < clones.size(); i++) {
+            layerCache.put(clones.get(i), cloneLayers.get(i));
+        }
+        return clones.stream().map(ModelCreateResponse::new).toList();
+    }
+
+
     // 모델버전 상세 조회
     @Transactional(readOnly = true)
     public ModelVersionDetail getModelVersion(Long versionId) {
-        ModelVersion version = modelVersionRepository.findById(versionId).orElseThrow(ModelVersionNotFoundException::new);
+        ModelVersion version = modelVersionRepository.findWithModelAndResultById(versionId).orElseThrow(ModelVersionNotFoundException::new);
+
+        List<LayerDTO> layers = layerCache.getLayers(version);
+        TrainingCostResponse trainingCost = trainingCostEstimator.estimate(layers, dataOf(version.getModel()));
 
-        Optional<Result> result = resultRepository.findById(versionId);
+        // 부분 조회(findSparse)와 같이 삭제된 결과는 제외 (결과는 fetch join 으로 이미 읽음)
+        Optional<Result> result = Optional.ofNullable(version.getResult()).filter(r -> !r.isDeleted());
         if (result.isPresent()) {
             ResultResponseWithImages resultResponseWithImages = new ResultResponseWithImages(result.get());
-            return new ModelVersionDetailWithResult(version, resultResponseWithImages);
+            return new ModelVersionDetailWithResult(version.getId(), layers, trainingCost, resultResponseWithImages);
+        }
+
+        return new ModelVersionDetail(version.getId(), layers, trainingCost);
+    }
+
+
+    // 모델버전 부분 조회 (고른 항목의 컬럼만 조회 / 직렬화)
+    @Transactional(readOnly = true)
+    public ModelVersionSparseDetail getModelVersion(Long versionId, Set<VersionDetailField> fields) {
+        ModelVersionLayerSource source = modelVersionRepository.findLayerSourceById(versionId).orElseThrow(ModelVersionNotFoundException::new);
+
+        boolean costRequested = fields.contains(VersionDetailField.TRAINING_COST);
+        List<LayerDTO> layers = fields.contains(VersionDetailField.LAYERS) || costRequested ? layerCache.getLayers(source) : null;
+        TrainingCostResponse trainingCost = costRequested ? trainingCostEstimator.estimate(layers, dataRegistry.get(source.dataId())) : null;
+
+        Set<ResultField> resultFields = EnumSet.noneOf(ResultField.class);
+        for (VersionDetailField field : fields) {
+            if (field.getResultField() != null) {
+                resultFields.add(field.getResultField());
+            }
+        }
+        boolean metrics = fields.contains(VersionDetailField.METRICS);
+        boolean code = fields.contains(VersionDetailField.CODE_VIEW);
+        ResultSparseResponse result = metrics || code || !resultFields.isEmpty()
+                ? resultRepository.findSparse(versionId, metrics, code, resultFields).orElse(null)
+                : null;
+
+        return new ModelVersionSparseDetail(
+                source.modelVersionId(),
+                fields.contains(VersionDetailField.LAYERS) ? layers : null,
+                trainingCost,
+                result);
+    }
+
+
+    // 모델버전 비교
+    @Transactional(readOnly = true)
+    public ModelVersionDiffResponse diffModelVersions(Long baseVersionId, Long targetVersionId) {
+        ModelVersion base = modelVersionRepository.findById(baseVersionId).orElseThrow(ModelVersionNotFoundException::new);
+        ModelVersion target = modelVersionRepository.findById(targetVersionId).orElseThrow(ModelVersionNotFoundException::new);
+
+        ResultMetricResponse baseMetric = resultRepository.findMetricById(baseVersionId).orElse(null);
+        ResultMetricResponse targetMetric = resultRepository.findMetricById(targetVersionId).orElse(null);
+
+        ModelVersionDiffResponse.MetricDelta metricDelta = null;
+        if (baseMetric != null && targetMetric != null) {
+            metricDelta = new ModelVersionDiffResponse.MetricDelta(
+                    subtract(targetMetric.testAccuracy(), baseMetric.testAccuracy()),
+                    subtract(targetMetric.testLoss(), baseMetric.testLoss()),
+                    targetMetric.totalParams() - baseMetric.totalParams());
         }
 
-        return new ModelVersionDetail(version);
+        return new ModelVersionDiffResponse(
+                baseVersionId,
+                targetVersionId,
+                layerDiffCalculator.diff(layerCache.getLayers(base), layerCache.getLayers(target)),
+                baseMetric,
+                targetMetric,
+                metricDelta);
+    }
+
+
+    // 모델버전 코드 조회 (학습 결과가 없으면 레이어로 바로 생성)
+    @Transactional(readOnly = true)
+    public ModelCodeResponse getModelCode(Long versionId) {
+        Optional<Result> result = resultRepository.findByIdAndDeletedFalse(versionId);
+        if (result.isPresent() && result.get().getCode() != null) {
+            return new ModelCodeResponse(versionId, result.get().getCode(), true);
+        }
+
+        return new ModelCodeResponse(versionId, ParsingUtil.toJson(generateModelCode(versionId)), false);
+    }
+
+
+    // 레이어로 PyTorch 코드 생성 (GitHub 내보내기에서도 호출, 결과 행의 이미지 JSON 은 읽지 않음)
+    @Transactional(readOnly = true)
+    public String generateModelCode(Long versionId) {
+        ModelVersionLayerSource source = modelVersionRepository.findLayerSourceById(versionId).orElseThrow(ModelVersionNotFoundException::new);
+
+        return modelCodeGenerator.generate(source.modelId(), versionId, layerCache.getLayers(source), dataRegistry.get(source.dataId()));
     }
 
 
@@ -100,27 +270,32 @@ public class ModelVersionService {
 
     // 모델 버전 수정
     public void updateModelVersion(Long modelVersionId, ModelVersionRequest request, CustomOAuth2User user) throws BadRequestException {
-        ModelVersion modelVersion = modelVersionRepository.findById(modelVersionId)
+        ModelVersion modelVersion = modelVersionRepository.findWithModelAndResultById(modelVersionId)
                 .orElseThrow(ModelVersionNotFoundException::new);
 
         // 사용자 권한 검사
-        if (user.getUserId() != modelVersion.getModel().getUser().getUserId()) {
+        if (!user.getUserId().equals(modelVersion.getModel().getUser().getUserId())) {
             throw new BadRequestException("제작자만 수정할 수 있습니다.");
         }
 
-        String layersJson = ParsingUtil.toJson(request.layers());
+        String layerHash = layerStore.save(request.layers(), modelVersion.getLayerHash());
 
         // 모델 버전 정보 업데이트
-        modelVersion.updateLayers(layersJson);
+        modelVersion.updateLayerHash(layerHash);
+        modelVersionRepository.flush();
+        layerCache.put(modelVersion, request.layers());
         Optional<Result> result = resultRepository.findById(modelVersionId);
 
-        result.ifPresent(resultRepository::delete);
+        result.ifPresent(r -> {
+            modelVersion.removeResult();
+            resultRepository.delete(r);
+        });
     }
 
 
     // 모델 버전 삭제
     public void deleteModelVersion(Long modelVersionId, CustomOAuth2User user) throws BadRequestException {
-        ModelVersion modelVersion = modelVersionRepository.findById(modelVersionId)
+        ModelVersion modelVersion = modelVersionRepository.findWithModelAndResultById(modelVersionId)
                 .orElseThrow(ModelVersionNotFoundException::new);
         if (!user.getUserId().equals(modelVersion.getModel().getUser().getUserId())) {
             throw new BadRequestException("제작자만 삭제할 수 있습니다.");
@@ -129,60 +304,64 @@ public class ModelVersionService {
         Model model = modelVersion.getModel();
 
         modelVersionRepository.softDeleteById(modelVersionId);
-        /**
-         * 벡터 DB 삭제 로직
-         */
-        String url = String.format("http://fast-search-service.scv.svc.cluster.local:8001/fast/v1/model/match/%d/%d", model.getId(), modelVersionId);
-        RestTemplate restTemplate = new RestTemplate();
-        try {
-            restTemplate.delete(url);
-            log.info("vectorDB 삭제 성공");
-        } catch (RestClientException e) {
-            log.error("vectorDB 삭제 실패: model_{}_v{}", model.getId(), modelVersionId);
-        }
-        /**
-         * 벡터 DB 삭제 로직
-         */
+        layerCache.evict(modelVersionId);
+        // 벡터 DB 삭제는 커밋 이후 호출 (원격 호출 동안 트랜잭션을 잡지 않음)
+        Long modelId = model.getId();
+        DataSet dataSet = dataOf(model).getName();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                String url = urlUtil.getMatchUrl(modelId, modelVersionId);
+                try {
+                    fastApiMetrics.record(FastApiMetrics.VECTOR_DELETE, dataSet, () -> fastApiRestTemplate.delete(url));
+                    log.info("vectorDB 삭제 성공");
+                } catch (RestClientException | BulkheadFullException e) {
+                    log.error("vectorDB 삭제 실패: model_{}_v{}", modelId, modelVersionId);
+                }
+            }
+        });
 
         // Result가 존재하는 경우에만 소프트 삭제
         Optional<Result> result = resultRepository.findByIdAndDeletedFalse(modelVersionId);
         result.ifPresent(r -> resultRepository.softDeleteByModelVersionId(modelVersionId));
 
-        // 버전, 정확도관리
+        // 버전, 정확도관리 (남은 버전 중 최신 버전을 조회, 결과가 없는 버전이면 정확도 -1)
         if (model.getLatestVersion() != 0) {
-            List<ModelVersion> modelVersionList = modelVersionRepository.findAllByModelIdAndDeletedFalse(model.getId());
-            modelVersionList.sort(Comparator.comparingInt(ModelVersion::getVersionNo).reversed());
-
-            if (!modelVersionList.isEmpty()) {
-                for (int i = 0; i < modelVersionList.size(); i++) {
-                    if (modelVersionList.get(i).getResult() != null) {
-                        model.setAccuracy(modelVersionList.get(i).getResult().getTestAccuracy());
-                        model.setLatestVersion(modelVersionList.get(i).getVersionNo());
-                        break;
-                    }
-                }
-            } else {
-                model.setLatestVersion(0);
-                model.setAccuracy(-1.0);
-            }
+            LatestVersionAccuracy latest = modelVersionRepository.findLatestVersionAccuracy(modelId)
+                    .orElse(new LatestVersionAccuracy(0, -1.0));
+            double accuracy = latest.testAccuracy() != null ? latest.testAccuracy() : -1.0;
+            modelRepository.updateLatest(modelId, latest.versionNo(), accuracy);
         }
         modelVersionRepository.save(modelVersion);
     }
 
 
+    // 결과 JSON 컬럼 하나를 압축된 상태 그대로 조회 (응답에서 gzip 협상)
+    @Transactional(readOnly = true)
+    public CompressedJson getResultField(Long versionId, ResultField field) {
+        return resultRepository.findField(versionId, field).orElseThrow(ResultNotFoundException::new);
+    }
+
     // 모델 실행 및 저장
+    // 학습 서버 호출 동안 트랜잭션(커넥션)을 잡지 않도록 조회 / 호출 / 저장 단계로 분리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResultResponse runResult(Long modelVersionId) {
-        ModelVersion modelVersion = modelVersionRepository.findById(modelVersionId)
-                .orElseThrow(ModelVersionNotFoundException::new);
-        Data data = dataRepository.findById(modelVersion.getModel().getData().getId())
-                .orElseThrow(DataNotFoundException::new);
-
-        List<LayerDTO> layers = ParsingUtil.parseJsonToList(modelVersion.getLayers(), LayerDTO.class);
-        ResultRequest request = new ResultRequest(layers, data);
-        String url = urlUtil.getTrainUrl(modelVersion.getModel().getId(), modelVersionId);
-
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
+        TrainContext context = transactionTemplate.execute(status -> {
+            ModelVersion modelVersion = modelVersionRepository.findById(modelVersionId)
+                    .orElseThrow(ModelVersionNotFoundException::new);
+            Data data = dataOf(modelVersion.getModel());
+            return new TrainContext(modelVersion.getModel().getId(), layerCache.getLayers(modelVersion), data);
+        });
+
+        ResultRequest request = new ResultRequest(context.layers(), context.data());
+        String url = urlUtil.getTrainUrl(context.modelId(), modelVersionId);
+
+        // 예상 비용이 메모리 한도를 넘으면 거절, 대기 중인 학습은 짧은 순서로 실행
+        TrainingCostResponse trainingCost = trainingCostEstimator.estimate(context.layers(), context.data());
+
+        ResponseEntity<String> response = trainingDispatcher.dispatch(trainingCost,
+                () -> fastApiMetrics.record(FastApiMetrics.TRAIN, context.data().getName(),
+                        () -> fastApiRestTemplate.postForEntity(url, request, String.class)));
         String jsonResponse = response.getBody();
 
         JsonNode rootNode = ParsingUtil.parseJsonToNode(jsonResponse);
@@ -204,85 +383,114 @@ public class ModelVersionService {
 
         int totalParams = calculateTotalParams(testResults.path("layer_parameters"));
 
-        Optional<Result> existingResult = resultRepository.findByIdWithLock(modelVersionId);
-        Result result;
-        if (existingResult.isPresent()) {
-            result = existingResult.get();
-            result.updateResult(codeJson, finalTestAccuracy, finalTestLoss, trainInfo, layerParams, totalParams);
-        } else {
-            result = Result.builder()
-                    .modelVersion(modelVersion)
-                    .code(codeJson)
-                    .testAccuracy(finalTestAccuracy)
-                    .testLoss(finalTestLoss)
-                    .layerParams(layerParams)
-                    .trainInfo(trainInfo)
-                    .totalParams(totalParams)
-                    .build();
-        }
+        return writeWithRetry(() -> {
+            Optional<Result> existingResult = resultRepository.findById(modelVersionId);
+            Result result;
+            if (existingResult.isPresent()) {
+                result = existingResult.get();
+                result.updateResult(codeJson, finalTestAccuracy, finalTestLoss, trainInfo, layerParams, totalParams);
+            } else {
+                result = Result.builder()
+                        .modelVersion(modelVersionRepository.getReferenceById(modelVersionId))
+                        .code(codeJson)
+                        .testAccuracy(finalTestAccuracy)
+                        .testLoss(finalTestLoss)
+                        .layerParams(CompressedJson.of(layerParams))
+                        .trainInfo(CompressedJson.of(trainInfo))
+                        .totalParams(totalParams)
+                        .build();
+            }
 
-        resultRepository.save(result);
+            resultRepository.saveAndFlush(result);
 
-        return new ResultResponse(result);
+            return new ResultResponse(result);
+        });
     }
 
 
     // 결과 및 분석 저장
+    // 테스트 서버 호출 동안 트랜잭션(커넥션)을 잡지 않도록 조회 / 호출 / 저장 단계로 분리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResultResponseWithImages saveResult(Long modelVersionId) {
-        ModelVersion modelVersion = modelVersionRepository.findById(modelVersionId)
-                .orElseThrow(ModelVersionNotFoundException::new);
-        Result result = resultRepository.findById(modelVersionId).orElseThrow(ResultNotFoundException::new);
-        Model model = modelVersion.getModel();
-        Long modelId = model.getId();
-        String data = model.getData().getName().toString();
-        if ("Fashion".equals(data)) {
-            data += "_MNIST";
-        }
+        TestContext context = transactionTemplate.execute(status -> {
+            ModelVersion modelVersion = modelVersionRepository.findById(modelVersionId)
+                    .orElseThrow(ModelVersionNotFoundException::new);
+            if (!resultRepository.existsById(modelVersionId)) {
+                throw new ResultNotFoundException();
+            }
+            Model model = modelVersion.getModel();
+            DataSet dataSet = dataOf(model).getName();
+            String data = dataSet.toString();
+            if ("Fashion".equals(data)) {
+                data += "_MNIST";
+            }
+            return new TestContext(urlUtil.getTestUrl(model.getId(), modelVersionId, data), dataSet);
+        });
 
-        String url = urlUtil.getTestUrl(modelId, modelVersionId, data);
+        ResponseEntity<String> response = fastApiMetrics.record(FastApiMetrics.TEST, context.dataSet(),
+                () -> fastApiRestTemplate.getForEntity(context.url(), String.class));
+        String jsonResponse = response.getBody();
 
-        RestTemplate restTemplate = new RestTemplate();
+        JsonNode rootNode = ParsingUtil.parseJson(jsonResponse, JsonNode.class);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        String confusionMatrix = ParsingUtil.getJsonFieldAsString(rootNode, "confusion_matrix");
+        String exampleImg = ParsingUtil.getJsonFieldAsString(rootNode, "example_image");
+        String featureActivation = ParsingUtil.getJsonFieldAsString(rootNode, "feature_activation");
+        String activationMaximization = ParsingUtil.getJsonFieldAsString(rootNode, "activation_maximization");
 
-        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-        String jsonResponse = response.getBody();
+        return writeWithRetry(() -> {
+            ModelVersion modelVersion = modelVersionRepository.findById(modelVersionId)
+                    .orElseThrow(ModelVersionNotFoundException::new);
+            Result result = resultRepository.findById(modelVersionId).orElseThrow(ResultNotFoundException::new);
+            Long modelId = modelVersion.getModel().getId();
 
-        JsonNode rootNode = ParsingUtil.parseJson(jsonResponse, JsonNode.class);
+            result.updateAnalysis(confusionMatrix, exampleImg, featureActivation, activationMaximization);
+            resultRepository.save(result);
 
-        result.updateAnalysis(
-                ParsingUtil.getJsonFieldAsString(rootNode, "confusion_matrix"),
-                ParsingUtil.getJsonFieldAsString(rootNode, "example_image"),
-                ParsingUtil.getJsonFieldAsString(rootNode, "feature_activation"),
-                ParsingUtil.getJsonFieldAsString(rootNode, "activation_maximization")
-        );
-        resultRepository.save(result);
-
-        int latest = model.getLatestVersion();
-        double accuarcy = result.getTestAccuracy();
-
-        if (latest == 0) {
-            modelVersion.updateVersionNo(1);
-            model.setLatestVersion(1);
-            model.setAccuracy(accuarcy);
-        } else {
-            if (modelVersion.getVersionNo() == latest) {
-                model.setAccuracy(accuarcy);
-            } else if (modelVersion.getVersionNo() == 0) {
-                modelVersion.updateVersionNo(latest + 1);
-                model.setLatestVersion(latest + 1);
-                model.setAccuracy(accuarcy);
+            double accuarcy = result.getTestAccuracy();
+
+            // 모델 엔티티를 읽어 덮어쓰지 않고, 번호 발급과 정확도 갱신 모두 DB 에서 조건부로 처리
+            if (modelVersion.getVersionNo() == 0) {
+                modelVersion.updateVersionNo(versionNoAllocator.allocate(modelId));
             }
-        }
-        modelVersion.workingDone();
+            modelVersion.workingDone();
+            modelVersionRepository.saveAndFlush(modelVersion);
 
-        modelVersionRepository.save(modelVersion);
-        modelRepository.save(model);
+            modelRepository.updateAccuracyIfLatest(modelId, modelVersion.getVersionNo(), accuarcy);
+
+            return new ResultResponseWithImages(result);
+        });
+    }
 
-        return new ResultResponseWithImages(result);
+
+    /**
+     * 짧은 쓰기 트랜잭션 실행
+     * Result 의 @Version 충돌(동시 저장) 또는 버전 번호 중복이면 최신 상태를 다시 읽어 재시도
+     * 그 밖의 제약 위반은 재시도해도 같으므로 바로 던짐
+     */
+    private <T> T writeWithRetry(Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> write.get());
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                boolean retryable = e instanceof OptimisticLockingFailureException
+                        || VersionNoAllocator.isDuplicateVersionNo((DataIntegrityViolationException) e);
+                if (!retryable || attempt >= MAX_WRITE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("결과 저장 충돌, 재시도 ({}/{})", attempt, MAX_WRITE_ATTEMPTS);
+            }
+        }
     }
 
+    // 데이터셋 정보는 DB 대신 DataRegistry 에서 (프록시의 id 만 사용하므로 지연 로딩 없음)
+    private Data dataOf(Model model) {
+        return dataRegistry.get(model.getData().getId());
+    }
+
+    private Double subtract(Double after, Double before) {
+        return after != null && before != null ? after - before : null;
+    }
 
     private int calculateTotalParams(JsonNode layerParameters) {
         int totalParams = 0;
@@ -291,4 +499,10 @@ public class ModelVersionService {
         }
         return totalParams;
     }
+
+    private record TrainContext(Long modelId, List<LayerDTO> layers, Data data) {
+    }
+
+    private record TestContext(String url, DataSet dataSet) {
+    }
 }
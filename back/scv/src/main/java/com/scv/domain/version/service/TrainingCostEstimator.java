@@ -0,0 +1,127 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.data.enums.DataSet;
+import com.scv.domain.version.dto.layer.FlattenDTO;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.layer.convolution.Conv2dDTO;
+import com.scv.domain.version.dto.layer.convolution.ConvTranspose2dDTO;
+import com.scv.domain.version.dto.layer.linear.LinearDTO;
+import com.scv.domain.version.dto.layer.nonlinear.LogSoftmaxDTO;
+import com.scv.domain.version.dto.layer.nonlinear.PReLUDTO;
+import com.scv.domain.version.dto.layer.nonlinear.SoftmaxDTO;
+import com.scv.domain.version.dto.layer.padding.ConstantPad2dDTO;
+import com.scv.domain.version.dto.layer.padding.ReflectionPad2dDTO;
+import com.scv.domain.version.dto.layer.padding.ReplicationPad2dDTO;
+import com.scv.domain.version.dto.layer.padding.ZeroPad2dDTO;
+import com.scv.domain.version.dto.layer.pooling.AvgPool2dDTO;
+import com.scv.domain.version.dto.layer.pooling.MaxPool2dDTO;
+import com.scv.domain.version.dto.response.TrainingCostResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 레이어 구성과 데이터셋 정보로 학습 비용(FLOPs, 최대 메모리, 예상 소요 시간)을 추정
+ */
+@Component
+public class TrainingCostEstimator {
+
+    // float32
+    private static final int BYTES_PER_VALUE = 4;
+
+    // 순전파 1 + 역전파 2
+    private static final int TRAIN_FLOPS_MULTIPLIER = 3;
+
+    // 가중치, 기울기, Adam 1차/2차 모멘트
+    private static final int PARAM_COPIES = 4;
+
+    private final int batchSize;
+    private final long flopsPerSecond;
+
+    public TrainingCostEstimator(@Value("${spring.fastapi.train.batch-size:64}") int batchSize,
+                                 @Value("${spring.fastapi.train.flops-per-second:5000000000}") long flopsPerSecond) {
+        this.batchSize = batchSize;
+        this.flopsPerSecond = flopsPerSecond;
+    }
+
+    public TrainingCostResponse estimate(List<LayerDTO> layers, Data data) {
+        DataSet dataSet = data.getName();
+        Shape shape = new Shape(dataSet.getInputChannels(), dataSet.getInputHeight(), dataSet.getInputWidth());
+
+        long forwardFlops = 0;
+        long totalParams = 0;
+        long activations = shape.numel();
+
+        for (LayerDTO layer : layers) {
+            LayerCost cost = estimateLayer(layer, shape);
+            forwardFlops += cost.flops();
+            totalParams += cost.params();
+            activations += cost.output().numel();
+            shape = cost.output();
+        }
+
+        long epochs = data.getEpochCnt();
+        long totalFlops = (forwardFlops * TRAIN_FLOPS_MULTIPLIER * data.getTrainCnt() + forwardFlops * data.getTestCnt()) * epochs;
+        long peakMemoryBytes = (activations * batchSize + totalParams * PARAM_COPIES) * BYTES_PER_VALUE;
+        double expectedSeconds = (double) totalFlops / flopsPerSecond;
+
+        return new TrainingCostResponse(forwardFlops, totalFlops, totalParams, peakMemoryBytes, expectedSeconds);
+    }
+
+    private LayerCost estimateLayer(LayerDTO layer, Shape in) {
+        return switch (layer) {
+            case Conv2dDTO conv -> {
+                Shape out = new Shape(conv.getOutChannels(), in.height() - conv.getKernelSize() + 1, in.width() - conv.getKernelSize() + 1);
+                long kernel = (long) conv.getInChannels() * conv.getKernelSize() * conv.getKernelSize();
+                yield new LayerCost(out, 2 * kernel * out.numel(), kernel * conv.getOutChannels() + conv.getOutChannels());
+            }
+            case ConvTranspose2dDTO conv -> {
+                Shape out = new Shape(conv.getOutChannels(), in.height() + conv.getKernelSize() - 1, in.width() + conv.getKernelSize() - 1);
+                long kernel = (long) conv.getInChannels() * conv.getKernelSize() * conv.getKernelSize();
+                yield new LayerCost(out, 2 * kernel * conv.getOutChannels() * in.height() * in.width(), kernel * conv.getOutChannels() + conv.getOutChannels());
+            }
+            case MaxPool2dDTO pool -> pooling(in, pool.getKernelSize(), pool.getStride());
+            case AvgPool2dDTO pool -> pooling(in, pool.getKernelSize(), pool.getStride());
+            case ZeroPad2dDTO pad -> padding(in, pad.getPadding());
+            case ConstantPad2dDTO pad -> padding(in, pad.getPadding());
+            case ReflectionPad2dDTO pad -> padding(in, pad.getPadding());
+            case ReplicationPad2dDTO pad -> padding(in, pad.getPadding());
+            case LinearDTO linear -> new LayerCost(
+                    new Shape(linear.getOutFeatures(), 1, 1),
+                    2L * linear.getInFeatures() * linear.getOutFeatures(),
+                    (long) linear.getInFeatures() * linear.getOutFeatures() + linear.getOutFeatures());
+            case FlattenDTO flatten -> new LayerCost(new Shape((int) Math.min(in.numel(), Integer.MAX_VALUE), 1, 1), 0, 0);
+            case SoftmaxDTO softmax -> new LayerCost(in, 3 * in.numel(), 0);
+            case LogSoftmaxDTO logSoftmax -> new LayerCost(in, 3 * in.numel(), 0);
+            case PReLUDTO prelu -> new LayerCost(in, in.numel(), prelu.getNumParameters());
+            default -> new LayerCost(in, in.numel(), 0);
+        };
+    }
+
+    private LayerCost pooling(Shape in, int kernelSize, int stride) {
+        int step = stride > 0 ? stride : kernelSize;
+        Shape out = new Shape(in.channels(), (in.height() - kernelSize) / step + 1, (in.width() - kernelSize) / step + 1);
+        return new LayerCost(out, (long) kernelSize * kernelSize * out.numel(), 0);
+    }
+
+    private LayerCost padding(Shape in, int padding) {
+        return new LayerCost(new Shape(in.channels(), in.height() + 2 * padding, in.width() + 2 * padding), 0, 0);
+    }
+
+    private record Shape(int channels, int height, int width) {
+        Shape {
+            channels = Math.max(channels, 1);
+            height = Math.max(height, 1);
+            width = Math.max(width, 1);
+        }
+
+        long numel() {
+            return (long) channels * height * width;
+        }
+    }
+
+    private record LayerCost(Shape output, long flops, long params) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.user.exception.InternalServerException;
+import com.scv.domain.version.dto.response.TrainingCostResponse;
+import com.scv.domain.version.exception.TrainingBudgetExceededException;
+import com.scv.global.bulkhead.BulkheadFullException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 학습 서버 호출 순서 제어
+ * 동시 학습 수를 제한하고, 대기 중인 요청은 예상 소요 시간이 짧은 순서로 실행
+ * 대기가 길어질수록 우선순위를 올려(aging) 긴 학습도 결국 실행되도록 함
+ * <p>
+ * 동시 학습 수 / 대기열 길이는 파드 단위 제한 (파드가 N 개면 학습 서버에는 최대 N 배가 몰림)
+ * 대기열이 가득 찼거나 최대 대기 시간을 넘기면 요청 스레드를 붙잡지 않고 503 (DOWNSTREAM_BUSY) 으로 실패
+ */
+@Slf4j
+@Component
+public class TrainingDispatcher {
+
+    private final ObservationRegistry observationRegistry;
+    private final int maxConcurrent;
+    private final long memoryBudgetBytes;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final double agingFactor;
+
+    // 우선순위 = 예상 소요 시간 - agingFactor * 대기 시간
+    // 대기 시간 항의 현재 시각 부분은 모든 요청에 같으므로 (예상 소요 시간 + agingFactor * 도착 시각) 으로 고정 정렬 가능
+    private final PriorityQueue<Ticket> waiting = new PriorityQueue<>(
+            Comparator.comparingDouble(Ticket::priority).thenComparingLong(Ticket::seq));
+    private final AtomicLong sequence = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    // synchronized / wait 는 가상 스레드를 캐리어에 고정하므로 Lock / Condition 으로 대기
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private int running = 0;
+
+    public TrainingDispatcher(ObservationRegistry observationRegistry,
+                              @Value("${spring.fastapi.train.max-concurrent:1}") int maxConcurrent,
+                              @Value("${spring.fastapi.train.memory-budget-mb:4096}") long memoryBudgetMb,
+                              @Value("${spring.fastapi.train.max-queue:16}") int maxQueue,
+                              @Value("${spring.fastapi.train.max-wait-ms:120000}") long maxWaitMs,
+                              @Value("${spring.fastapi.train.aging-factor:1.0}") double agingFactor) {
+        this.observationRegistry = observationRegistry;
+        this.maxConcurrent = maxConcurrent;
+        this.memoryBudgetBytes = memoryBudgetMb * 1024 * 1024;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.agingFactor = agingFactor;
+    }
+
+    public <T> T dispatch(TrainingCostResponse cost, Supplier<T> trainCall) {
+        if (cost.peakMemoryBytes() > memoryBudgetBytes) {
+            throw new TrainingBudgetExceededException();
+        }
+
+        // 대기 시간을 별도 스팬으로 남겨 학습 서버 처리 시간과 구분
+        Observation.createNotStarted("scv.train.queue", observationRegistry)
+                .lowCardinalityKeyValue("max-concurrent", String.valueOf(maxConcurrent))
+                .observe(() -> acquire(cost.expectedSeconds()));
+        try {
+            return trainCall.get();
+        } finally {
+            release();
+        }
+    }
+
+    // 현재 대기 중인 요청 수 (실행 중 제외)
+    int waitingCount() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(double expectedSeconds) {
+        lock.lock();
+        try {
+            if (running < maxConcurrent && waiting.isEmpty()) {
+                running++;
+                return;
+            }
+            if (waiting.size() >= maxQueue) {
+                log.warn("학습 대기열이 가득 참 ({}건)", waiting.size());
+                throw new BulkheadFullException();
+            }
+
+            long now = System.nanoTime();
+            double arrivedSeconds = (now - startNanos) / 1e9;
+            Ticket ticket = new Ticket(expectedSeconds + agingFactor * arrivedSeconds, sequence.getAndIncrement());
+            waiting.add(ticket);
+
+            long remaining = maxWaitNanos;
+            try {
+                while (running >= maxConcurrent || waiting.peek() != ticket) {
+                    if (remaining <= 0) {
+                        leave(ticket);
+                        log.warn("학습 대기 시간 초과 (예상 {}초, 대기 {}건)", String.format("%.1f", expectedSeconds), waiting.size());
+                        throw new BulkheadFullException();
+                    }
+                    remaining = changed.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                leave(ticket);
+                Thread.currentThread().interrupt();
+                throw InternalServerException.getInstance();
+            }
+            waiting.poll();
+            running++;
+            log.info("학습 시작 (예상 {}초, 대기 {}건)", String.format("%.1f", expectedSeconds), waiting.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 대기를 포기한 요청을 빼고, 뒤에 있던 요청이 맨 앞이 됐을 수 있으므로 깨움
+    private void leave(Ticket ticket) {
+        waiting.remove(ticket);
+        changed.signalAll();
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            running--;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Ticket(double priority, long seq) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.model.exception.ModelNotFoundException;
+import com.scv.domain.model.repository.ModelRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모델별 버전 번호 발급
+ * 메모리의 latestVersion 대신 조건부 UPDATE 로 증가시켜, 동시에 저장해도 같은 번호가 나오지 않음
+ * (model_version 의 (model_id, active_version_no) 유니크 인덱스가 최종 보장)
+ */
+@Component
+@RequiredArgsConstructor
+public class VersionNoAllocator {
+
+    private static final String VERSION_NO_UNIQUE_KEY = "uk_model_version_no";
+
+    private final ModelRepository modelRepository;
+
+    /**
+     * 다음 버전 번호 발급 후 모델의 최신 버전으로 반영
+     * 호출한 트랜잭션이 끝날 때까지 모델 행이 잠기므로 짧은 쓰기 트랜잭션 안에서만 호출
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int allocate(Long modelId) {
+        if (modelRepository.incrementLatestVersion(modelId) == 0) {
+            throw new ModelNotFoundException();
+        }
+        return modelRepository.findLatestVersionById(modelId);
+    }
+
+    /**
+     * 같은 번호가 동시에 저장돼 uk_model_version_no 에 걸린 경우 (다시 발급하면 해결되므로 재시도 대상)
+     * 다른 제약 위반(FK, NOT NULL 등)은 재시도해도 같은 결과
+     */
+    public static boolean isDuplicateVersionNo(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                        && constraintName != null
+                        && constraintName.endsWith(VERSION_NO_UNIQUE_KEY);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,71 @@
+package com.scv.global.aot;
+
+import com.querydsl.core.types.EntityPath;
+import com.scv.domain.model.dto.response.ModelResponse;
+import com.scv.domain.user.dto.response.UserProfileResponseDTO;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.response.LatestVersionAccuracy;
+import com.scv.domain.version.dto.response.ModelVersionLayerSource;
+import com.scv.domain.version.dto.response.ModelVersionResponse;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 네이티브 이미지 / AOT 용 리플렉션 힌트
+ * Jackson 다형성 역직렬화(LayerDTO 하위 타입), Lombok 빌더, QueryDSL Q 클래스와 Projections.constructor DTO 는
+ * 정적 분석으로 찾을 수 없어 빌드 시점에 클래스패스를 스캔해 등록
+ */
+public class ScvRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.scv";
+
+    // QueryDSL Projections.constructor 로 생성되는 응답 DTO (클래스 리터럴이라 이름이 바뀌면 컴파일 에러)
+    private static final List<Class<?>> PROJECTIONS = List.of(
+            ModelResponse.class,
+            ModelVersionResponse.class,
+            UserProfileResponseDTO.class,
+            LatestVersionAccuracy.class,
+            ModelVersionLayerSource.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            // 기본 구현은 추상 클래스, 인터페이스, 중첩 클래스를 제외하므로 모두 허용
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(new AssignableTypeFilter(LayerDTO.class));
+        scanner.addIncludeFilter(new AssignableTypeFilter(EntityPath.class));
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*\\$\\w+Builder(Impl)?")));
+
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            String className = candidate.getBeanClassName();
+            register(hints, className);
+            // 빌더가 만드는 바깥 클래스도 함께 등록
+            int nested = className.indexOf('$');
+            if (nested > 0) {
+                register(hints, className.substring(0, nested));
+            }
+        }
+        PROJECTIONS.forEach(type -> hints.reflection().registerType(type, MemberCategory.values()));
+    }
+
+    private static void register(RuntimeHints hints, String className) {
+        hints.reflection().registerType(TypeReference.of(className), MemberCategory.values());
+    }
+}
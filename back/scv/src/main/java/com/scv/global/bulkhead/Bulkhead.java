@@ -0,0 +1,70 @@
+package com.scv.global.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 서비스 하나에 대한 동시 호출 상한
+ * 가상 스레드는 요청마다 생기므로 스레드 풀 크기 대신 세마포어로 외부 서비스를 보호
+ * 응답 헤더를 받으면 허가를 반납 (본문은 호출한 쪽에서 바로 읽음)
+ */
+public class Bulkhead implements ClientHttpRequestInterceptor {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long maxWaitMs;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public Bulkhead(String name, int maxConcurrent, long maxWaitMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitMs = maxWaitMs;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.rejected = Counter.builder("scv.bulkhead.rejected")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("scv.bulkhead.active", this, Bulkhead::active)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        acquire();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new BulkheadFullException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException();
+        }
+    }
+}
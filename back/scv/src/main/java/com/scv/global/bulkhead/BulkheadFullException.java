@@ -0,0 +1,10 @@
+package com.scv.global.bulkhead;
+
+import com.scv.global.error.ErrorCode;
+import com.scv.global.error.ServiceException;
+
+public class BulkheadFullException extends ServiceException {
+    public BulkheadFullException() {
+        super(ErrorCode.DOWNSTREAM_BUSY);
+    }
+}
@@ -0,0 +1,45 @@
+package com.scv.global.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * /actuator/secondlevelcache : 2차 캐시 영역별 hit / miss / put 통계
+ * (hibernate.generate_statistics 가 꺼져 있으면 0, 기본값은 꺼짐이라 HIBERNATE_STATISTICS=true 로 켬)
+ */
+@Component
+@Endpoint(id = "secondlevelcache")
+@RequiredArgsConstructor
+public class SecondLevelCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public List<RegionStatistics> regions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> new RegionStatistics(region, statistics.getDomainDataRegionStatistics(region)))
+                .toList();
+    }
+
+    public record RegionStatistics(String region, long hitCount, long missCount, long putCount, double hitRatio) {
+        RegionStatistics(String region, CacheRegionStatistics statistics) {
+            this(region, statistics.getHitCount(), statistics.getMissCount(), statistics.getPutCount(),
+                    hitRatio(statistics.getHitCount(), statistics.getMissCount()));
+        }
+
+        private static double hitRatio(long hit, long miss) {
+            return hit + miss == 0 ? 0.0 : (double) hit / (hit + miss);
+        }
+    }
+}
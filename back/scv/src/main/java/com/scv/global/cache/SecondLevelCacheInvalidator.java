@@ -0,0 +1,94 @@
+package com.scv.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 2차 캐시 파드 간 무효화
+ * 캐시 대상 엔티티가 커밋되면 Redis 채널로 알리고, 다른 파드는 해당 엔티티를 로컬 캐시에서 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator implements PostCommitUpdateEventListener, PostCommitDeleteEventListener, MessageListener {
+
+    public static final String CHANNEL = "scv:second-level-cache:evict";
+
+    private static final String DELIMITER = "|";
+
+    // 자기 자신이 보낸 알림은 무시
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = sessionFactory().getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + DELIMITER, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        EntityPersister persister = sessionFactory().getMappingMetamodel().getEntityDescriptor(parts[1]);
+        Object id = Long.class.equals(persister.getIdentifierType().getReturnedClass())
+                ? Long.valueOf(parts[2])
+                : Integer.valueOf(parts[2]);
+        sessionFactory().getCache().evictEntityData(parts[1], id);
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.join(DELIMITER, nodeId, persister.getEntityName(), id.toString()));
+        } catch (RuntimeException e) {
+            // 알림 실패 시 다른 파드는 TTL 만료까지 이전 값을 볼 수 있음
+            log.warn("2차 캐시 무효화 알림 실패: {}#{}", persister.getEntityName(), id, e);
+        }
+    }
+
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+}
@@ -1,23 +1,77 @@
 package com.scv.global.config;
 
 import com.scv.domain.user.exception.*;
+import com.scv.global.bulkhead.Bulkhead;
+import com.scv.global.metrics.GithubApiMetricsInterceptor;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
 
+    // 외부 호출은 java.net.http.HttpClient 로 전송 (동기 호출도 내부에서 락 대신 future 로 대기해 가상 스레드가 캐리어에 고정되지 않음)
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setErrorHandler(new CustomResponseErrorhandler());
-        return restTemplate;
+    public HttpClient outboundHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    // 외부 호출 클라이언트는 자동 구성된 빌더로 생성 (클라이언트 스팬 + traceparent 헤더 전파)
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, HttpClient outboundHttpClient,
+                                     GithubApiMetricsInterceptor githubApiMetricsInterceptor, Bulkhead githubBulkhead) {
+        return restTemplateBuilder
+                .requestFactory(() -> new JdkClientHttpRequestFactory(outboundHttpClient))
+                .errorHandler(new CustomResponseErrorhandler())
+                .additionalInterceptors(githubBulkhead, githubApiMetricsInterceptor)
+                .build();
+    }
+
+    @Bean
+    public RestClient githubRestClient(RestClient.Builder restClientBuilder, HttpClient outboundHttpClient,
+                                       GithubApiMetricsInterceptor githubApiMetricsInterceptor, Bulkhead githubBulkhead) {
+        return restClientBuilder
+                .requestFactory(new JdkClientHttpRequestFactory(outboundHttpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github+json")
+                .requestInterceptor(githubBulkhead)
+                .requestInterceptor(githubApiMetricsInterceptor)
+                .defaultStatusHandler(HttpStatusCode::is4xxClientError, ((request, response) -> {
+                    switch (response.getStatusCode().value()) {
+                        case 401 -> throw GithubUnauthorizedException.getInstance();
+                        case 403 -> throw GithubForbiddenException.getInstance();
+                        case 404 -> throw GithubRepoNotFoundException.getInstance();
+                        case 409 -> throw GithubConflictException.getInstance();
+                        case 422 -> throw GithubUnprocessableEntityException.getInstance();
+                        default -> throw GithubBadRequestException.getInstance();
+                    }
+                }))
+                .build();
+    }
+
+    // FastAPI 학습 / 테스트 / 벡터 DB 호출용
+    @Bean
+    public RestTemplate fastApiRestTemplate(RestTemplateBuilder restTemplateBuilder, HttpClient outboundHttpClient, Bulkhead fastApiBulkhead) {
+        return restTemplateBuilder
+                .requestFactory(() -> new JdkClientHttpRequestFactory(outboundHttpClient))
+                .additionalInterceptors(fastApiBulkhead)
+                .build();
     }
 
     private static class CustomResponseErrorhandler extends DefaultResponseErrorHandler {
@@ -0,0 +1,36 @@
+package com.scv.global.config;
+
+import com.scv.global.bulkhead.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 서비스별 벌크헤드 (MySQL 은 Hikari 풀, Redis 는 Lettuce 단일 커넥션 다중화가 같은 역할)
+ */
+@Configuration
+public class BulkheadConfig {
+
+    @Value("${spring.bulkhead.fastapi.max-concurrent:32}")
+    private int fastApiMaxConcurrent;
+
+    @Value("${spring.bulkhead.fastapi.max-wait-ms:2000}")
+    private long fastApiMaxWaitMs;
+
+    @Value("${spring.bulkhead.github.max-concurrent:16}")
+    private int githubMaxConcurrent;
+
+    @Value("${spring.bulkhead.github.max-wait-ms:2000}")
+    private long githubMaxWaitMs;
+
+    @Bean
+    public Bulkhead fastApiBulkhead(MeterRegistry meterRegistry) {
+        return new Bulkhead("fastapi", fastApiMaxConcurrent, fastApiMaxWaitMs, meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead githubBulkhead(MeterRegistry meterRegistry) {
+        return new Bulkhead("github", githubMaxConcurrent, githubMaxWaitMs, meterRegistry);
+    }
+}
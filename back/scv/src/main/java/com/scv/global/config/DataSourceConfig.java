@@ -0,0 +1,116 @@
+package com.scv.global.config;
+
+import com.scv.global.datasource.ReadYourWritesFilter;
+import com.scv.global.datasource.ReplicaLagMonitor;
+import com.scv.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * primary / replica 라우팅 DataSource (spring.datasource.replica.enabled=true 일 때만 사용)
+ * 비활성화 시 스프링 부트 기본 DataSource 가 그대로 primary 를 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Value("${spring.datasource.replica.urls}")
+    private String replicaUrls;
+
+    @Value("${spring.datasource.replica.max-lag-seconds:2}")
+    private long maxLagSeconds;
+
+    @Value("${spring.datasource.replica.sticky-seconds:5}")
+    private int stickySeconds;
+
+    /**
+     * primary 커넥션 풀 (spring.datasource.hikari.* 설정을 그대로 적용, 컨텍스트 종료 시 close)
+     */
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        return createDataSource(properties, properties.determineUrl(), ReplicationRoutingDataSource.PRIMARY, false, meterRegistry);
+    }
+
+    /**
+     * replica 커넥션 풀은 개수가 설정으로 정해지므로 빈 대신 ReplicaLagMonitor 가 소유하고 종료 시 close
+     * primary 와 같은 계정, spring.datasource.hikari.* 설정 사용
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        String[] urls = StringUtils.commaDelimitedListToStringArray(replicaUrls);
+        for (int i = 0; i < urls.length; i++) {
+            String key = "replica-" + i;
+            HikariDataSource replica = createDataSource(properties, urls[i].trim(), key, true, meterRegistry);
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            // 바인딩이 풀 이름 / 읽기 전용을 덮어쓰지 않도록 다시 지정
+            replica.setPoolName(key);
+            replica.setReadOnly(true);
+            replicas.put(key, replica);
+        }
+        return new ReplicaLagMonitor(replicas, maxLagSeconds);
+    }
+
+    /**
+     * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감쌈
+     */
+    @Primary
+    @Bean
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary, ReplicaLagMonitor replicaLagMonitor) {
+        Map<Object, Object> targets = new HashMap<>(replicaLagMonitor.getReplicas());
+        targets.put(ReplicationRoutingDataSource.PRIMARY, primary);
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 트랜잭션이 열리기 전에 sticky 여부를 정하도록 가장 먼저 실행
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(stickySeconds));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // 드라이버 / 계정은 spring.datasource.*, 풀 메트릭(hikaricp.*)은 풀 이름 태그로 등록 (풀이 시작되기 전에 지정해야 함)
+    private static HikariDataSource createDataSource(DataSourceProperties properties, String url, String poolName,
+                                                     boolean readOnly, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setReadOnly(readOnly);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
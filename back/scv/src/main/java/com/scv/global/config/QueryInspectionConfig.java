@@ -0,0 +1,39 @@
+package com.scv.global.config;
+
+import com.scv.global.query.QueryInspectionFilter;
+import com.scv.global.query.QueryInspectionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 개발 / 테스트용 쿼리 검사 (요청별 쿼리 수 헤더, N+1 의심, 느린 쿼리 바인딩 값 로그)
+ * 바인딩 값이 로그에 남으므로 운영에서는 끔, JDBC 프록시(jdbc.datasource-proxy.enabled)가 켜져 있어야 동작
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.query-inspector.enabled", havingValue = "true")
+public class QueryInspectionConfig {
+
+    @Value("${spring.query-inspector.slow-threshold-ms:200}")
+    private long slowThresholdMs;
+
+    @Value("${spring.query-inspector.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    // 프록시 데이터소스가 QueryExecutionListener 빈을 리스너로 등록
+    @Bean
+    public QueryInspectionListener queryInspectionListener() {
+        return new QueryInspectionListener(slowThresholdMs);
+    }
+
+    // 인증 필터의 사용자 조회까지 세도록 시큐리티 필터 체인보다 먼저 실행
+    @Bean
+    public FilterRegistrationBean<QueryInspectionFilter> queryInspectionFilter() {
+        FilterRegistrationBean<QueryInspectionFilter> registration = new FilterRegistrationBean<>(new QueryInspectionFilter(nPlusOneThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
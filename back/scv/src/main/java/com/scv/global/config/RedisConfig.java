@@ -1,10 +1,13 @@
 package com.scv.global.config;
 
+import io.lettuce.core.resource.ClientResources;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -14,8 +17,12 @@ import java.util.Arrays;
 import java.util.List;
 
 @Configuration
+@RequiredArgsConstructor
 public class RedisConfig {
 
+    // 모든 노드가 같은 이벤트 루프 / 추적 설정 공유
+    private final ClientResources clientResources;
+
     @Value("${spring.data.redis.token.access.master.host}")
     private String accessMasterHost;
 
@@ -75,42 +82,42 @@ public class RedisConfig {
     public LettuceConnectionFactory accessMasterConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(accessMasterHost, accessMasterPort);
         config.setPassword(accessMasterPassword);
-        return new LettuceConnectionFactory(config);
+        return new LettuceConnectionFactory(config, clientConfiguration());
     }
 
     @Bean(name = "accessSlave1ConnectionFactory")
     public LettuceConnectionFactory accessSlave1ConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(accessSlave1Host, accessSlave1Port);
         config.setPassword(accessSlave1Password);
-        return new LettuceConnectionFactory(config);
+        return new LettuceConnectionFactory(config, clientConfiguration());
     }
 
     @Bean(name = "accessSlave2ConnectionFactory")
     public LettuceConnectionFactory accessSlave2ConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(accessSlave2Host, accessSlave2Port);
         config.setPassword(accessSlave2Password);
-        return new LettuceConnectionFactory(config);
+        return new LettuceConnectionFactory(config, clientConfiguration());
     }
 
     @Bean(name = "accessSlave3ConnectionFactory")
     public LettuceConnectionFactory accessSlave3ConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(accessSlave3Host, accessSlave3Port);
         config.setPassword(accessSlave3Password);
-        return new LettuceConnectionFactory(config);
+        return new LettuceConnectionFactory(config, clientConfiguration());
     }
 
     @Bean
     public LettuceConnectionFactory refreshMasterConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(refreshMasterHost, refreshMasterPort);
         config.setPassword(refreshMasterPassword);
-        return new LettuceConnectionFactory(config);
+        return new LettuceConnectionFactory(config, clientConfiguration());
     }
 
     @Bean
     public LettuceConnectionFactory oauthMasterConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(oauthMasterHost, oauthMasterPort);
         config.setPassword(oauthMasterPassword);
-        return new LettuceConnectionFactory(config);
+        return new LettuceConnectionFactory(config, clientConfiguration());
     }
 
     @Bean(name = "accessMasterTemplate")
@@ -171,4 +178,10 @@ public class RedisConfig {
         template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
         return template;
     }
+
+    private LettuceClientConfiguration clientConfiguration() {
+        return LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .build();
+    }
 }
@@ -0,0 +1,71 @@
+package com.scv.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.scv.global.cache.SecondLevelCacheInvalidator;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 영역 설정 (Caffeine 로컬 힙 캐시)
+ * 영역 이름은 엔티티의 @Cache / @NaturalIdCache region 과 일치
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Value("${spring.second-level-cache.data.max-size:100}")
+    private long dataMaxSize;
+
+    @Value("${spring.second-level-cache.user.max-size:10000}")
+    private long userMaxSize;
+
+    @Value("${spring.second-level-cache.user.ttl-seconds:600}")
+    private long userTtlSeconds;
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        // 컨텍스트마다 별도 매니저 (JVM 기본 매니저를 공유하면 설정이 다른 테스트 컨텍스트끼리 영역 생성이 충돌하고,
+        // 한 컨텍스트가 종료될 때 Hibernate 가 매니저를 닫아 다른 컨텍스트의 캐시도 닫힘)
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("scv-second-level-cache-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        cacheManager.createCache("data", region(dataMaxSize, 0));
+        cacheManager.createCache("user", region(userMaxSize, userTtlSeconds));
+        cacheManager.createCache("user-natural-id", region(userMaxSize, userTtlSeconds));
+
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    // 다른 파드의 변경 알림 구독 (기본 Redis 연결 사용)
+    @Bean
+    public RedisMessageListenerContainer secondLevelCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           SecondLevelCacheInvalidator invalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidator, new ChannelTopic(SecondLevelCacheInvalidator.CHANNEL));
+        return container;
+    }
+
+    private CaffeineConfiguration<Object, Object> region(long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        return configuration;
+    }
+}
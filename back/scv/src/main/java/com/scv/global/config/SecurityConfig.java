@@ -8,13 +8,20 @@ import com.scv.global.oauth2.service.CustomOAuth2UserService;
 import com.scv.global.jwt.filter.CustomJwtLogoutFilter;
 import com.scv.global.jwt.filter.JwtVerifyFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
@@ -38,6 +45,33 @@ public class SecurityConfig {
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
+    private final SecurityProperties securityProperties;
+
+    // actuator : health 만 공개, 나머지(prometheus, dataregistry, secondlevelcache 등)는 spring.security.user 계정으로 HTTP Basic 인증
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        SecurityProperties.User actuator = securityProperties.getUser();
+
+        http.securityMatcher(EndpointRequest.toAnyEndpoint());
+        http.csrf(AbstractHttpConfigurer::disable);
+        http.formLogin(AbstractHttpConfigurer::disable);
+        http.httpBasic(Customizer.withDefaults());
+        http.userDetailsService(new InMemoryUserDetailsManager(User.withUsername(actuator.getName())
+                .password("{noop}" + actuator.getPassword())
+                .roles("ACTUATOR")
+                .build()));
+
+        http.authorizeHttpRequests(auth -> auth
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                .anyRequest().hasRole("ACTUATOR"));
+
+        http.sessionManagement(session -> session.
+                sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -86,7 +120,6 @@ public class SecurityConfig {
         http.authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/oauth2/authorization").permitAll()
                 .requestMatchers("/api/login/oauth2/code/*").permitAll()
-                .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/api/v1/logout").permitAll()
                 .requestMatchers("/api/v1/models/public").permitAll()
                 .requestMatchers("/api/v1/models/public/**").permitAll()
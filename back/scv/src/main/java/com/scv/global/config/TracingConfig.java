@@ -0,0 +1,21 @@
+package com.scv.global.config;
+
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 분산 추적 설정
+ * HTTP 서버 / RestTemplate / RestClient / JDBC 스팬은 자동 구성, Redis 는 Lettuce ClientResources 에 추적 연결
+ */
+@Configuration
+public class TracingConfig {
+
+    // 명령 인자에 토큰이 들어가므로 스팬 태그에는 남기지 않음
+    @Bean
+    public ClientResourcesBuilderCustomizer redisTracingCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder.tracing(new MicrometerTracing(observationRegistry, "scv-redis", false));
+    }
+}
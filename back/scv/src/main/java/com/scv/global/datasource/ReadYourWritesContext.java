@@ -0,0 +1,24 @@
+package com.scv.global.datasource;
+
+/**
+ * 현재 요청이 primary 에서 읽어야 하는지 여부 (요청 스레드 단위)
+ */
+public class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> STICKY = ThreadLocal.withInitial(() -> false);
+
+    private ReadYourWritesContext() {
+    }
+
+    public static boolean isSticky() {
+        return STICKY.get();
+    }
+
+    public static void setSticky(boolean sticky) {
+        STICKY.set(sticky);
+    }
+
+    public static void clear() {
+        STICKY.remove();
+    }
+}
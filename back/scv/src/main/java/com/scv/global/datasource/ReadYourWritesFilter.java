@@ -0,0 +1,44 @@
+package com.scv.global.datasource;
+
+import com.scv.global.jwt.util.CookieUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 쓰기 요청(POST, PUT, PATCH, DELETE) 이후 sticky 기간 동안 같은 클라이언트의 읽기를 primary 로 고정
+ * 파드가 여러 개여도 같은 판단을 하도록 서버 메모리 대신 쿠키로 표시
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String STICKY_COOKIE_NAME = "scv_rw";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final int stickySeconds;
+
+    public ReadYourWritesFilter(int stickySeconds) {
+        this.stickySeconds = stickySeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean write = WRITE_METHODS.contains(request.getMethod().toUpperCase());
+        if (write) {
+            // 응답 본문이 쓰이기 전에 쿠키 추가
+            response.addCookie(CookieUtil.createCookie(STICKY_COOKIE_NAME, "1", stickySeconds));
+        }
+
+        ReadYourWritesContext.setSticky(write || CookieUtil.getCookie(request, STICKY_COOKIE_NAME).isPresent());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+}
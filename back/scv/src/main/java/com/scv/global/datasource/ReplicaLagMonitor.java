@@ -0,0 +1,78 @@
+package com.scv.global.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * replica 별 복제 지연(Seconds_Behind_Source) 주기 확인
+ * 지연이 한도를 넘거나 복제가 멈춘 replica 는 읽기 대상에서 제외
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    @Getter
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+
+    // 첫 확인 전에는 모두 primary 로 읽음
+    @Getter
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, long maxLagSeconds) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        replicas.forEach((key, dataSource) -> {
+            Long lag = lagSeconds(dataSource);
+            if (lag != null && lag <= maxLagSeconds) {
+                healthy.add(key);
+            } else if (healthyReplicas.contains(key)) {
+                log.warn("replica 제외: {} (지연 {}초)", key, lag);
+            }
+        });
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    // replica 커넥션 풀은 이 객체가 소유하므로 컨텍스트 종료 시 함께 닫음
+    public void close() {
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("replica 커넥션 풀 종료 실패: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    // 복제가 멈췄거나 확인할 수 없으면 null
+    private Long lagSeconds(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            log.warn("replica 상태 확인 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
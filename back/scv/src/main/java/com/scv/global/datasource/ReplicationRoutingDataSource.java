@@ -0,0 +1,36 @@
+package com.scv.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제 지연이 허용 범위 안인 replica 로, 나머지는 primary 로 라우팅
+ * 직전에 쓰기 요청을 보낸 사용자는 sticky 기간 동안 primary 에서 읽음 (read-your-writes)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWritesContext.isSticky()) {
+            return PRIMARY;
+        }
+
+        List<String> replicas = replicaLagMonitor.getHealthyReplicas();
+        if (replicas.isEmpty()) {
+            return PRIMARY;
+        }
+        return replicas.get(Math.floorMod(counter.getAndIncrement(), replicas.size()));
+    }
+}
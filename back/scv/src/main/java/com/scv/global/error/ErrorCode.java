@@ -21,6 +21,9 @@ public enum ErrorCode {
     RESULT_NOT_FOUND(404, "RESULT_NOT_FOUND", "결과를 찾을 수 없습니다."),
     DATA_NOT_FOUND(404, "DATA_NOT_FOUND", "데이터를 찾을 수 없습니다."),
     MODEL_VERSION_NOT_FOUND(404, "MODEL_VERSION_NOT_FOUND", "버전을 찾을 수 없습니다."),
+    INVALID_VERSION_FIELD(400, "INVALID_VERSION_FIELD", "조회할 수 없는 항목입니다."),
+    TRAINING_BUDGET_EXCEEDED(400, "TRAINING_BUDGET_EXCEEDED", "학습 서버의 메모리 한도를 초과하는 모델입니다."),
+    DOWNSTREAM_BUSY(503, "DOWNSTREAM_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     MODEL_NOT_FOUND(404, "MODEL_NOT_FOUND", "모델을 찾을 수 없습니다.");
 
     private final int httpStatus;
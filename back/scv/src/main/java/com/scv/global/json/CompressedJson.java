@@ -0,0 +1,87 @@
+package com.scv.global.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip 으로 압축해 저장하는 JSON (학습 기록, 분석 이미지 등 큰 결과 컬럼)
+ * 클라이언트가 gzip 을 받으면 저장된 바이트를 풀지 않고 그대로 응답 본문으로 보냄 (CompressedJsonResponse)
+ * 압축 도입 전에 저장된 행은 평문 JSON 이므로 gzip 헤더로 구분해 그대로 읽음
+ */
+public final class CompressedJson {
+
+    private final byte[] stored;
+
+    private CompressedJson(byte[] stored) {
+        this.stored = stored;
+    }
+
+    public static CompressedJson of(String json) {
+        if (json == null) {
+            return null;
+        }
+        return new CompressedJson(gzip(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static CompressedJson fromStored(byte[] stored) {
+        return stored == null ? null : new CompressedJson(stored);
+    }
+
+    public byte[] toStored() {
+        return stored;
+    }
+
+    public boolean isCompressed() {
+        return stored.length >= 2 && (stored[0] & 0xff) == 0x1f && (stored[1] & 0xff) == 0x8b;
+    }
+
+    /**
+     * gzip 바이트 (평문으로 남아 있는 이전 행만 압축)
+     */
+    public byte[] gzipBytes() {
+        return isCompressed() ? stored : gzip(stored);
+    }
+
+    public byte[] jsonBytes() {
+        if (!isCompressed()) {
+            return stored;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(stored))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String toJson() {
+        return new String(jsonBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    // 변경 감지가 내용으로 비교하도록
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof CompressedJson other && Arrays.equals(stored, other.stored);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(stored);
+    }
+}
@@ -0,0 +1,24 @@
+package com.scv.global.json;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * CompressedJson <-> LONGBLOB (압축 / 해제는 읽고 쓸 때가 아니라 값을 만들거나 꺼낼 때만)
+ * 값은 바뀌지 않으므로 스냅샷 복사 없이 변경 감지
+ */
+@Immutable
+@Converter
+public class CompressedJsonConverter implements AttributeConverter<CompressedJson, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(CompressedJson attribute) {
+        return attribute == null ? null : attribute.toStored();
+    }
+
+    @Override
+    public CompressedJson convertToEntityAttribute(byte[] dbData) {
+        return CompressedJson.fromStored(dbData);
+    }
+}
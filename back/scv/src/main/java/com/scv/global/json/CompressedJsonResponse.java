@@ -0,0 +1,62 @@
+package com.scv.global.json;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * CompressedJson 응답 (Accept-Encoding 협상)
+ * gzip 을 받는 클라이언트에는 저장된 gzip 바이트를 그대로, 아니면 풀어서 전송
+ * Content-Encoding 을 직접 지정하므로 서버(Tomcat) 응답 압축은 다시 적용되지 않음
+ */
+public final class CompressedJsonResponse {
+
+    private static final String GZIP = "gzip";
+
+    private CompressedJsonResponse() {
+    }
+
+    public static ResponseEntity<byte[]> of(CompressedJson json, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(json.gzipBytes());
+        }
+        return builder.body(json.jsonBytes());
+    }
+
+    // "gzip, deflate, br", "gzip;q=0", "*" 형식 (gzip 을 직접 지정한 값이 * 보다 우선)
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP)) {
+                gzipQuality = quality(parts);
+            } else if (name.equals("*")) {
+                anyQuality = quality(parts);
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
@@ -8,6 +8,7 @@ import com.scv.global.jwt.util.JwtUtil;
 import com.scv.global.jwt.enums.TokenStatus;
 import com.scv.global.util.CustomResponse;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -33,6 +34,7 @@ public class JwtVerifyFilter extends OncePerRequestFilter {
 
     private final CustomResponse customResponse;
     private final RedisTokenService redisTokenService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -65,6 +67,7 @@ public class JwtVerifyFilter extends OncePerRequestFilter {
         if (redisTokenService.isBlacklisted(accessToken) ||
                 accessTokenStatus == TAMPERED) {
 
+            countVerify(accessTokenStatus == TAMPERED ? "tampered" : "blacklisted");
             customResponse.sendResponse(request, response, HttpServletResponse.SC_UNAUTHORIZED, "INVALID_TOKEN", "유효하지 않은 토큰입니다.");
             return;
         }
@@ -74,6 +77,7 @@ public class JwtVerifyFilter extends OncePerRequestFilter {
 
             // 리프레시 토큰이 없으면 예외 발생
             if (refreshTokenCookie.isEmpty()) {
+                countVerify("expired");
                 customResponse.sendResponse(request, response, HttpServletResponse.SC_UNAUTHORIZED, "INVALID_TOKEN", "유효하지 않은 토큰입니다.");
                 return;
             }
@@ -86,6 +90,7 @@ public class JwtVerifyFilter extends OncePerRequestFilter {
             if (!redisTokenService.isWhitelisted(refreshToken) ||
                     refreshTokenStatus == TAMPERED) {
 
+                countVerify(refreshTokenStatus == TAMPERED ? "refresh-tampered" : "refresh-invalid");
                 customResponse.sendResponse(request, response, HttpServletResponse.SC_UNAUTHORIZED, "INVALID_TOKEN", "유효하지 않은 토큰입니다.");
                 return;
             }
@@ -100,6 +105,9 @@ public class JwtVerifyFilter extends OncePerRequestFilter {
             response.addCookie(newAccessTokenCookie);
             response.addCookie(newRefreshTokenCookie);
             redisTokenService.addToWhitelist(refreshToken);
+            countVerify("refresh");
+        } else {
+            countVerify("valid");
         }
 
         Claims accessTokenClaims = JwtUtil.parseAccessTokenClaims(accessToken);
@@ -120,4 +128,9 @@ public class JwtVerifyFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 토큰 검증 결과별 카운트
+    private void countVerify(String outcome) {
+        meterRegistry.counter("scv.jwt.verify", "outcome", outcome).increment();
+    }
+
 }
@@ -2,12 +2,15 @@ package com.scv.global.jwt.service;
 
 import com.scv.global.jwt.util.JwtUtil;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -17,11 +20,21 @@ public class RedisTokenService {
     public RedisTokenService(
             @Qualifier("accessMasterTemplate") RedisTemplate<String, Object> accessTokenBlacklistRedisMasterTemplate,
             @Qualifier("accessSlaveTemplates") List<RedisTemplate<String, Object>> accessTokenBlacklistRedisSlaveTemplates,
-            @Qualifier("refreshMasterTemplate") RedisTemplate<String, Object> refreshTokenWhitelistRedisMasterTemplate) {
+            @Qualifier("refreshMasterTemplate") RedisTemplate<String, Object> refreshTokenWhitelistRedisMasterTemplate,
+            MeterRegistry meterRegistry) {
         this.accessTokenBlacklistRedisMasterTemplate = accessTokenBlacklistRedisMasterTemplate;
         this.accessTokenBlacklistRedisSlaveTemplates = accessTokenBlacklistRedisSlaveTemplates;
         this.refreshTokenWhitelistRedisMasterTemplate = refreshTokenWhitelistRedisMasterTemplate;
         this.slaveCnt = accessTokenBlacklistRedisSlaveTemplates.size();
+
+        // 노드(마스터 / 슬레이브별) 지연시간
+        this.blacklistAddTimer = redisTimer(meterRegistry, "access-master", "blacklist-add");
+        this.blacklistGetTimers = IntStream.range(0, slaveCnt)
+                .mapToObj(i -> redisTimer(meterRegistry, "access-slave-" + i, "blacklist-get"))
+                .toList();
+        this.whitelistAddTimer = redisTimer(meterRegistry, "refresh-master", "whitelist-add");
+        this.whitelistGetTimer = redisTimer(meterRegistry, "refresh-master", "whitelist-get");
+        this.whitelistDeleteTimer = redisTimer(meterRegistry, "refresh-master", "whitelist-delete");
     }
 
     private final RedisTemplate<String, Object> accessTokenBlacklistRedisMasterTemplate;
@@ -31,23 +44,31 @@ public class RedisTokenService {
     private final AtomicInteger slaveIndex = new AtomicInteger(0);
     private final int slaveCnt;
 
+    private final Timer blacklistAddTimer;
+    private final List<Timer> blacklistGetTimers;
+    private final Timer whitelistAddTimer;
+    private final Timer whitelistGetTimer;
+    private final Timer whitelistDeleteTimer;
+
     public void addToBlacklist(String accessToken) {
         Claims claims = JwtUtil.parseAccessTokenClaims(accessToken);
 
         long duration = claims.getExpiration().getTime() - System.currentTimeMillis();
 
-        accessTokenBlacklistRedisMasterTemplate.opsForValue().set(accessToken, true, duration, TimeUnit.MILLISECONDS);
+        blacklistAddTimer.record(() ->
+                accessTokenBlacklistRedisMasterTemplate.opsForValue().set(accessToken, true, duration, TimeUnit.MILLISECONDS));
     }
 
     public boolean isBlacklisted(String accessToken) {
-        RedisTemplate<String, Object> accessTokenBlacklistRedisSlaveTemplate = getNextAccessTokenBlacklistRedisSlaveTemplate();
-        Boolean isBlacklisted = (Boolean) accessTokenBlacklistRedisSlaveTemplate.opsForValue().get(accessToken);
+        int index = getNextAccessTokenBlacklistRedisSlaveIndex();
+        RedisTemplate<String, Object> accessTokenBlacklistRedisSlaveTemplate = accessTokenBlacklistRedisSlaveTemplates.get(index);
+        Boolean isBlacklisted = (Boolean) blacklistGetTimers.get(index).record(() ->
+                accessTokenBlacklistRedisSlaveTemplate.opsForValue().get(accessToken));
         return Boolean.TRUE.equals(isBlacklisted);
     }
 
-    private RedisTemplate<String, Object> getNextAccessTokenBlacklistRedisSlaveTemplate() {
-        int index = slaveIndex.getAndIncrement() % slaveCnt;
-        return accessTokenBlacklistRedisSlaveTemplates.get(index);
+    private int getNextAccessTokenBlacklistRedisSlaveIndex() {
+        return slaveIndex.getAndIncrement() % slaveCnt;
     }
 
     public void addToWhitelist(String refreshToken) {
@@ -56,7 +77,8 @@ public class RedisTokenService {
         String userId = claims.getSubject();
         long duration = claims.getExpiration().getTime() - System.currentTimeMillis();
 
-        refreshTokenWhitelistRedisMasterTemplate.opsForValue().set(userId, refreshToken, duration, TimeUnit.MILLISECONDS);
+        whitelistAddTimer.record(() ->
+                refreshTokenWhitelistRedisMasterTemplate.opsForValue().set(userId, refreshToken, duration, TimeUnit.MILLISECONDS));
     }
 
     public boolean isWhitelisted(String refreshToken) {
@@ -64,7 +86,8 @@ public class RedisTokenService {
 
         String userId = claims.getSubject();
 
-        return refreshToken.equals(refreshTokenWhitelistRedisMasterTemplate.opsForValue().get(userId));
+        return refreshToken.equals(whitelistGetTimer.record(() ->
+                refreshTokenWhitelistRedisMasterTemplate.opsForValue().get(userId)));
     }
 
     public void deleteFromWhitelist(String refreshToken) {
@@ -72,7 +95,14 @@ public class RedisTokenService {
 
         String userId = claims.getSubject();
 
-        refreshTokenWhitelistRedisMasterTemplate.delete(userId);
+        whitelistDeleteTimer.record(() -> refreshTokenWhitelistRedisMasterTemplate.delete(userId));
+    }
+
+    private static Timer redisTimer(MeterRegistry meterRegistry, String node, String operation) {
+        return Timer.builder("scv.redis.token")
+                .tag("node", node)
+                .tag("operation", operation)
+                .register(meterRegistry);
     }
 
     // 매일 자정에 초기화 (00:00)
@@ -0,0 +1,49 @@
+package com.scv.global.metrics;
+
+import com.scv.domain.data.enums.DataSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * FastAPI(학습 / 테스트 / 벡터 DB) 호출 지연시간 기록
+ * 엔드포인트, 데이터셋, 성공 여부로 태그 (히스토그램 설정은 application.yml)
+ */
+@Component
+@RequiredArgsConstructor
+public class FastApiMetrics {
+
+    public static final String TRAIN = "train";
+    public static final String TEST = "test";
+    public static final String VECTOR_DELETE = "vector-delete";
+
+    private static final String TIMER_NAME = "scv.fastapi.request";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String endpoint, DataSet dataSet, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .tag("endpoint", endpoint)
+                    .tag("dataset", dataSet.name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(String endpoint, DataSet dataSet, Runnable call) {
+        record(endpoint, dataSet, () -> {
+            call.run();
+            return null;
+        });
+    }
+}
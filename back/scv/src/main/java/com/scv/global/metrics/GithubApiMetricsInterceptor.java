@@ -0,0 +1,95 @@
+package com.scv.global.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GitHub API 호출 지연시간과 rate limit 상태 기록
+ * 경로에 사용자 / 저장소 이름이 들어가므로 태그는 앞쪽 경로만 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class GithubApiMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String TIMER_NAME = "scv.github.request";
+    private static final String RATE_LIMIT_REMAINING = "scv.github.ratelimit.remaining";
+    private static final String RATE_LIMIT_LIMIT = "scv.github.ratelimit.limit";
+
+    private final MeterRegistry meterRegistry;
+
+    // rate limit 리소스(core, search ...)별 최근 값
+    private final Map<String, AtomicLong> remaining = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> limit = new ConcurrentHashMap<>();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            recordRateLimit(response);
+            return response;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .tag("method", request.getMethod().name())
+                    .tag("endpoint", endpoint(request.getURI().getPath()))
+                    .tag("status", status)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void recordRateLimit(ClientHttpResponse response) {
+        String resource = response.getHeaders().getFirst("X-RateLimit-Resource");
+        String remainingValue = response.getHeaders().getFirst("X-RateLimit-Remaining");
+        String limitValue = response.getHeaders().getFirst("X-RateLimit-Limit");
+        if (remainingValue == null || limitValue == null) {
+            return;
+        }
+
+        String key = resource != null ? resource : "core";
+        try {
+            gauge(remaining, RATE_LIMIT_REMAINING, key).set(Long.parseLong(remainingValue));
+            gauge(limit, RATE_LIMIT_LIMIT, key).set(Long.parseLong(limitValue));
+        } catch (NumberFormatException ignored) {
+            // 헤더 형식이 바뀌어도 API 호출에는 영향 없음
+        }
+    }
+
+    private AtomicLong gauge(Map<String, AtomicLong> values, String name, String resource) {
+        return values.computeIfAbsent(resource, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get)
+                    .tag("resource", key)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+
+    /**
+     * /repos/{owner}/{repo}/contents/... -> /repos/contents, /users/{nickname}/repos -> /users/repos
+     */
+    private String endpoint(String path) {
+        String[] segments = path.split("/");
+        if (segments.length < 2) {
+            return "/";
+        }
+        return switch (segments[1]) {
+            case "repos" -> segments.length > 4 ? "/repos/" + segments[4] : "/repos";
+            case "users" -> segments.length > 3 ? "/users/" + segments[3] : "/users";
+            default -> segments.length > 2 ? "/" + segments[1] + "/" + segments[2] : "/" + segments[1];
+        };
+    }
+}
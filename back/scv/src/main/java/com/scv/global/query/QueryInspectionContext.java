@@ -0,0 +1,63 @@
+package com.scv.global.query;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 요청에서 실행된 쿼리 수 / 시간과 같은 SQL 의 반복 횟수 (요청 스레드 단위)
+ */
+public class QueryInspectionContext {
+
+    private static final ThreadLocal<QueryInspectionContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> repeats = new HashMap<>();
+    private int count;
+    private long elapsedMs;
+
+    private QueryInspectionContext() {
+    }
+
+    public static QueryInspectionContext start() {
+        QueryInspectionContext context = new QueryInspectionContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * @return 요청 밖(스케줄러, 기동 시 마이그레이션 등)에서 실행된 쿼리면 null
+     */
+    public static QueryInspectionContext current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, long elapsedMs) {
+        this.count++;
+        this.elapsedMs += elapsedMs;
+        repeats.merge(sql, 1, Integer::sum);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * 같은 SQL 이 threshold 번 이상 실행된 경우 (파라미터만 바뀌어 반복되는 N+1 후보)
+     */
+    public Map<String, Integer> repeatedAtLeast(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        repeats.forEach((sql, times) -> {
+            if (times >= threshold) {
+                repeated.put(sql, times);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,45 @@
+package com.scv.global.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 쿼리 수 / 시간을 응답 헤더로 내려주고, 같은 SQL 이 반복되면 N+1 의심으로 기록
+ * 본문을 쓰는 도중(open-in-view 지연 로딩)에 나간 쿼리까지 세도록 응답을 버퍼링한 뒤 헤더 추가
+ */
+@Slf4j
+public class QueryInspectionFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    private final int nPlusOneThreshold;
+
+    public QueryInspectionFilter(int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        QueryInspectionContext context = QueryInspectionContext.start();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            QueryInspectionContext.clear();
+            context.repeatedAtLeast(nPlusOneThreshold).forEach((sql, times) ->
+                    log.warn("N+1 의심 {} {}: 같은 쿼리 {}회 - {}", request.getMethod(), request.getRequestURI(), times, sql));
+
+            wrapper.setHeader(QUERY_COUNT_HEADER, String.valueOf(context.getCount()));
+            wrapper.setHeader(QUERY_TIME_HEADER, String.valueOf(context.getElapsedMs()));
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
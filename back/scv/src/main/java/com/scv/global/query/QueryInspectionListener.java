@@ -0,0 +1,57 @@
+package com.scv.global.query;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC 프록시에서 실행된 모든 쿼리를 받아 요청별로 집계하고, 느린 쿼리는 바인딩 값과 함께 기록
+ * 배치 실행은 DB 왕복 한 번이므로 1건으로 셈
+ */
+@Slf4j
+public class QueryInspectionListener implements QueryExecutionListener {
+
+    private final long slowThresholdMs;
+
+    public QueryInspectionListener(long slowThresholdMs) {
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        long elapsedMs = execInfo.getElapsedTime();
+
+        QueryInspectionContext context = QueryInspectionContext.current();
+        if (context != null) {
+            context.record(sql, elapsedMs);
+        }
+
+        if (elapsedMs >= slowThresholdMs) {
+            log.warn("느린 쿼리 {}ms (batch={}): {} / 파라미터 {}", elapsedMs, execInfo.isBatch(), sql, parameters(queryInfoList));
+        }
+    }
+
+    private String parameters(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                .map(operations -> operations.stream()
+                        .map(QueryInspectionListener::value)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String value(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        return args.length > 1 ? String.valueOf(args[1]) : "null";
+    }
+}
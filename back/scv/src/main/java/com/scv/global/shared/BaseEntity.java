@@ -2,12 +2,15 @@ package com.scv.global.shared;
 
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Getter
 @MappedSuperclass
@@ -22,6 +25,21 @@ public class BaseEntity {
 
     private boolean deleted = false;
 
+    /**
+     * 감사 시각을 datetime(6) 정밀도로 맞춤 (AuditingEntityListener 이후 호출)
+     * 나노초가 남아 있으면 DB 에서 반올림되어 엔티티 값과 다시 읽은 값이 달라짐
+     */
+    @PrePersist
+    @PreUpdate
+    void truncateAuditTimestamps() {
+        if (createdAt != null) {
+            createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+        }
+        if (updatedAt != null) {
+            updatedAt = updatedAt.truncatedTo(ChronoUnit.MICROS);
+        }
+    }
+
     /**
      * 소프트 삭제
      */
@@ -6,18 +6,23 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Metrics;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class ParsingUtil {
+    // 저장 / 전송 크기를 줄이도록 들여쓰기 없이 직렬화 (LayerStore 의 레이어 해시도 이 형식 기준)
     private static final ObjectMapper objectMapper = new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .configure(SerializationFeature.WRITE_ENUMS_USING_TO_STRING, true)
-            .enable(SerializationFeature.INDENT_OUTPUT);
+            .configure(SerializationFeature.WRITE_ENUMS_USING_TO_STRING, true);
+
+    // 파싱 시간 (스프링 부트가 MeterRegistry 를 전역 레지스트리에 등록)
+    private static final String PARSE_TIMER_NAME = "scv.json.parse";
 
     public static <T> T parseJson(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return timed(clazz.getSimpleName(), () -> objectMapper.readValue(json, clazz));
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to parse JSON to " + clazz.getSimpleName(), e);
         }
@@ -25,7 +30,7 @@ public class ParsingUtil {
 
     public static <T> T parseJson(String json, TypeReference<T> typeRef) {
         try {
-            return objectMapper.readValue(json, typeRef);
+            return timed("TypeReference", () -> objectMapper.readValue(json, typeRef));
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to parse JSON to specified type", e);
         }
@@ -33,12 +38,16 @@ public class ParsingUtil {
 
     public static JsonNode parseJsonToNode(String json) {
         try {
-            return objectMapper.readTree(json);
+            return timed("JsonNode", () -> objectMapper.readTree(json));
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to parse JSON to JsonNode", e);
         }
     }
 
+    public static JsonNode toJsonNode(Object data) {
+        return objectMapper.valueToTree(data);
+    }
+
     public static String toJson(Object data) {
         try {
             return objectMapper.writeValueAsString(data);
@@ -69,7 +78,8 @@ public class ParsingUtil {
 
     public static <T> List<T> parseJsonToList(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, objectMapper.getTypeFactory().constructCollectionType(List.class, clazz));
+            return timed("List<" + clazz.getSimpleName() + ">",
+                    () -> objectMapper.readValue(json, objectMapper.getTypeFactory().constructCollectionType(List.class, clazz)));
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to parse JSON to List of " + clazz.getSimpleName(), e);
         }
@@ -82,4 +92,18 @@ public class ParsingUtil {
         return jsonString; // 유효성 검증을 거치지 않고 그대로 반환
     }
 
+    private static <T> T timed(String target, JsonReader<T> reader) throws JsonProcessingException {
+        long start = System.nanoTime();
+        try {
+            return reader.read();
+        } finally {
+            Metrics.timer(PARSE_TIMER_NAME, "target", target).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonReader<T> {
+        T read() throws JsonProcessingException;
+    }
+
 }
@@ -18,6 +18,12 @@ public class UrlUtil {
     @Value("${spring.fastapi.test.port}")
     private String fastTestPort;
 
+    @Value("${spring.fastapi.search.host}")
+    private String fastSearchHost;
+
+    @Value("${spring.fastapi.search.port}")
+    private String fastSearchPort;
+
     /**
      * @return "http://{fastTrainHost}:{fastTrainPort}/fast/v1/models/{modelId}/versions/{modelVersionId}"
      */
@@ -31,4 +37,11 @@ public class UrlUtil {
     public String getTestUrl(Long modelId, Long modelVersionId, String dataName) {
         return String.format("http://%s:%s/fast/v1/model/test/analyze/%d/%d/%s", fastTestHost, fastTestPort, modelId, modelVersionId, dataName.toLowerCase());
     }
+
+    /**
+     * @return "http://{fastSearchHost}:{fastSearchPort}/fast/v1/model/match/{modelId}/{modelVersionId}"
+     */
+    public String getMatchUrl(Long modelId, Long modelVersionId) {
+        return String.format("http://%s:%s/fast/v1/model/match/%d/%d", fastSearchHost, fastSearchPort, modelId, modelVersionId);
+    }
 }
@@ -0,0 +1,248 @@
+package com.scv.global.warmup;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scv.domain.model.service.ModelService;
+import com.scv.domain.user.domain.User;
+import com.scv.domain.user.util.GithubUrlBuilder;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.global.datasource.ReplicaLagMonitor;
+import com.scv.global.jwt.util.JwtUtil;
+import com.scv.global.util.ParsingUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 배포 직후 첫 요청들의 지연을 줄이기 위한 예열
+ * ApplicationRunner 는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행되므로, 끝날 때까지 readiness 프로브는 실패
+ * 단계별 실패 / 시간 초과는 기록만 하고 기동은 계속 (예열 때문에 배포가 막히지 않도록)
+ * 데이터셋 레지스트리는 DataRegistry 생성 시 이미 적재됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadinessWarmup implements ApplicationRunner {
+
+    private static final String TIMER_NAME = "scv.warmup";
+
+    private final DataSource dataSource;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final ObjectProvider<LettuceConnectionFactory> redisConnectionFactories;
+    private final ObjectMapper objectMapper;
+    private final ModelService modelService;
+    private final RestClient githubRestClient;
+    private final GithubUrlBuilder githubUrlBuilder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${spring.warmup.time-budget-ms:30000}")
+    private long timeBudgetMs;
+
+    @Value("${spring.warmup.iterations:300}")
+    private int iterations;
+
+    @Value("${spring.warmup.github-enabled:false}")
+    private boolean githubEnabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "readiness-warmup"));
+        try {
+            for (Map.Entry<String, Runnable> step : steps().entrySet()) {
+                if (!runStep(executor, step.getKey(), step.getValue(), deadline)) {
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("워밍업 완료 ({}ms)", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private Map<String, Runnable> steps() {
+        Map<String, Runnable> steps = new LinkedHashMap<>();
+        steps.put("db-pool", this::warmDataSources);
+        steps.put("redis", this::warmRedis);
+        steps.put("jwt", this::warmJwt);
+        steps.put("layer-json", this::warmLayerJson);
+        steps.put("public-models", this::warmPublicModels);
+        if (githubEnabled) {
+            steps.put("github", this::warmGithub);
+        }
+        return steps;
+    }
+
+    /**
+     * @return 다음 단계를 계속할지 여부 (시간 예산을 다 쓰면 false)
+     */
+    private boolean runStep(ExecutorService executor, String name, Runnable step, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            log.warn("워밍업 시간 예산({}ms) 초과, {} 부터 건너뜀", timeBudgetMs, name);
+            return false;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        Future<?> future = executor.submit(step);
+        try {
+            future.get(remaining, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            outcome = "timeout";
+            log.warn("워밍업 {} 단계가 시간 예산({}ms) 안에 끝나지 않아 중단", name, timeBudgetMs);
+            return false;
+        } catch (ExecutionException e) {
+            outcome = "failure";
+            log.warn("워밍업 {} 단계 실패: {}", name, e.getCause().toString());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            outcome = "interrupted";
+            return false;
+        } finally {
+            long elapsed = sample.stop(meterRegistry.timer(TIMER_NAME, "step", name, "outcome", outcome));
+            log.info("워밍업 {} {} ({}ms)", name, outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    // 최소 유휴 커넥션 수만큼 동시에 빌려 풀을 미리 채움 (replica 사용 시 replica 풀 포함)
+    private void warmDataSources() {
+        List<DataSource> dataSources = new ArrayList<>();
+        dataSources.add(dataSource);
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (monitor != null) {
+            dataSources.addAll(monitor.getReplicas().values());
+        }
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        try {
+            for (DataSource candidate : dataSources) {
+                if (candidate.isWrapperFor(HikariDataSource.class)) {
+                    pools.add(candidate.unwrap(HikariDataSource.class));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+
+        for (HikariDataSource pool : pools) {
+            List<Connection> connections = new ArrayList<>();
+            try {
+                for (int i = 0; i < Math.max(1, pool.getMinimumIdle()); i++) {
+                    Connection connection = pool.getConnection();
+                    connections.add(connection);
+                    connection.isValid(1);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                connections.forEach(ReadinessWarmup::closeQuietly);
+            }
+        }
+    }
+
+    // Lettuce 공유 커넥션은 첫 명령 때 맺어지므로 팩토리마다 PING
+    private void warmRedis() {
+        redisConnectionFactories.orderedStream().forEach(factory -> {
+            try (RedisConnection connection = factory.getConnection()) {
+                connection.ping();
+            }
+        });
+    }
+
+    private void warmJwt() {
+        User user = User.builder()
+                .userId(0L)
+                .userUuid(UUID.randomUUID().toString())
+                .userNickname("warmup")
+                .build();
+        for (int i = 0; i < iterations; i++) {
+            String token = JwtUtil.createAccessToken(user);
+            JwtUtil.getAccessTokenStatus(token);
+            JwtUtil.parseAccessTokenClaims(token);
+        }
+    }
+
+    // 모든 LayerDTO 하위 타입이 한 번씩 나오도록 만든 JSON 으로 다형성 역직렬화기 생성
+    // ParsingUtil 은 저장된 레이어, 스프링 ObjectMapper 는 요청 / 응답 본문에 사용
+    private void warmLayerJson() {
+        String json = Arrays.stream(LayerDTO.class.getAnnotation(JsonSubTypes.class).value())
+                .map(type -> "{\"name\":\"" + type.name() + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        ParsingUtil.parseJsonToList(json, LayerDTO.class);
+
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, LayerDTO.class);
+        try {
+            for (int i = 0; i < iterations; i++) {
+                List<LayerDTO> layers = objectMapper.readValue(json, listType);
+                objectMapper.writeValueAsString(layers);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 갤러리 첫 페이지 (정렬 없음, 최신순): 쿼리 플랜 / DB 버퍼 예열
+    private void warmPublicModels() {
+        modelService.getAllModels(PageRequest.of(0, 12), null, null);
+        modelService.getAllModels(PageRequest.of(0, 12, Sort.by(Sort.Direction.DESC, "updatedAt")), null, null);
+    }
+
+    // 커넥션과 TLS 세션을 미리 맺어 둠
+    private void warmGithub() {
+        githubRestClient.get()
+                .uri(githubUrlBuilder.buildRateLimitUrl())
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // 풀로 반환 실패는 무시
+        }
+    }
+}
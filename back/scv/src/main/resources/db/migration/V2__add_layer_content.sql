@@ -0,0 +1,15 @@
+-- 레이어 구성을 내용 해시로 한 번만 저장 (LayerStore)
+-- 기존 버전은 layer_hash 가 NULL 이고 version_layer_at 의 레이어를 그대로 사용
+
+CREATE TABLE `layer_content` (
+  `layer_hash` varchar(64) NOT NULL,
+  `base_hash` varchar(64) DEFAULT NULL,
+  `layers` json NOT NULL,
+  `prefix_cnt` int NOT NULL,
+  `suffix_cnt` int NOT NULL,
+  `depth` int NOT NULL,
+  PRIMARY KEY (`layer_hash`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+ALTER TABLE `model_version`
+  ADD COLUMN `layer_hash` varchar(64) DEFAULT NULL AFTER `is_working_on`;
@@ -0,0 +1,9 @@
+-- 모델별 버전 번호 중복 방지 (VersionNoAllocator)
+-- 번호가 발급된 미삭제 버전만 값을 가지는 생성 컬럼에 유니크 키 (미발급 0, 삭제된 버전은 NULL 이라 검사에서 제외)
+-- 기존 데이터에 같은 모델의 미삭제 버전 번호가 중복되어 있으면 실패하므로 적용 전에 확인
+--   SELECT model_id, version_no, COUNT(*) FROM model_version
+--   WHERE deleted = 0 AND version_no > 0 GROUP BY model_id, version_no HAVING COUNT(*) > 1;
+
+ALTER TABLE `model_version`
+  ADD COLUMN `active_version_no` int GENERATED ALWAYS AS (CASE WHEN `deleted` = 0 AND `version_no` > 0 THEN `version_no` END) VIRTUAL AFTER `version_no`,
+  ADD UNIQUE KEY `uk_model_version_no` (`model_id`, `active_version_no`);
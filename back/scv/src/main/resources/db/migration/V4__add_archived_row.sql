@@ -0,0 +1,12 @@
+-- 오래된 소프트 삭제 행의 보관 테이블 (SoftDeleteArchiver)
+
+CREATE TABLE `archived_row` (
+  `archived_row_id` bigint NOT NULL AUTO_INCREMENT,
+  `source_table` varchar(32) NOT NULL,
+  `source_id` bigint NOT NULL,
+  `payload` longblob NOT NULL,
+  `deleted_at` datetime(6) DEFAULT NULL,
+  `archived_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`archived_row_id`),
+  KEY `idx_archived_row_source` (`source_table`, `source_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
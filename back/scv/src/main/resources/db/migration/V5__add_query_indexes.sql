@@ -0,0 +1,13 @@
+-- 조회 조건 기준 복합 인덱스 (QueryIndexUsageTest 가 EXPLAIN 으로 풀 스캔 여부 확인)
+
+-- 내 모델 조회: user_id = ? AND deleted = false AND model_latest <> 0 ORDER BY created_at
+CREATE INDEX idx_model_user_deleted_latest_created ON model (user_id, deleted, model_latest, created_at);
+
+-- 전체 모델 조회 / 개수: deleted = false AND model_latest <> 0 ORDER BY created_at
+CREATE INDEX idx_model_deleted_latest_created ON model (deleted, model_latest, created_at);
+
+-- 모델별 버전 목록, 최신 버전 id 서브쿼리: model_id = ? AND deleted = false (AND version_no = ?)
+CREATE INDEX idx_model_version_model_deleted_no ON model_version (model_id, deleted, version_no);
+
+-- 작업 중인 버전 조회: is_working_on = true AND deleted = false
+CREATE INDEX idx_model_version_working_deleted ON model_version (is_working_on, deleted);
@@ -0,0 +1,18 @@
+-- model, model_version, user 의 id 를 IDENTITY 대신 pooled 시퀀스 테이블로 할당 (insert 배치 사용)
+-- MySQL 에는 시퀀스가 없으므로 Hibernate 가 next_val 단일 행 테이블을 시퀀스로 사용
+-- pooled 할당은 (next_val - 49) ~ next_val 구간을 쓰므로 기존 최대 id + 51 로 시작
+
+CREATE TABLE `model_seq` (
+  `next_val` bigint DEFAULT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+INSERT INTO `model_seq` SELECT COALESCE(MAX(`model_id`), 0) + 51 FROM `model`;
+
+CREATE TABLE `model_version_seq` (
+  `next_val` bigint DEFAULT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+INSERT INTO `model_version_seq` SELECT COALESCE(MAX(`model_version_id`), 0) + 51 FROM `model_version`;
+
+CREATE TABLE `user_seq` (
+  `next_val` bigint DEFAULT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+INSERT INTO `user_seq` SELECT COALESCE(MAX(`user_id`), 0) + 51 FROM `user`;
@@ -0,0 +1,16 @@
+-- 결과의 큰 JSON 컬럼을 gzip 압축 바이트로 저장 (Result 의 CompressedJson)
+-- 기존 행은 평문 JSON 바이트로 남고 읽을 때 gzip 헤더 유무로 구분, ResultCompressionBackfill 배치가 청크 단위로 압축
+-- code_view 는 작고 코드 조회에서 바로 쓰이므로 JSON 유지
+--
+-- 잠금 비용: json -> longblob 은 타입 변경이라 INPLACE 가 불가능하고 테이블 전체를 복사 (ALGORITHM=COPY)
+-- MySQL 은 복사하는 동안 LOCK=SHARED 로 읽기만 허용하고 result 쓰기(학습 결과 저장)를 막음
+-- 복사 시간은 result 테이블 크기(이미지 JSON 포함)에 비례하므로, 큰 테이블은 배포 전에
+-- gh-ost / pt-online-schema-change 로 같은 컬럼 변경을 먼저 적용 (이후 이 ALTER 는 정의가 같아 테이블을 다시 복사하지 않음)
+
+ALTER TABLE `result`
+  MODIFY `train_info` longblob DEFAULT NULL,
+  MODIFY `layer_params` longblob DEFAULT NULL,
+  MODIFY `confusion_matrix` longblob DEFAULT NULL,
+  MODIFY `example_img` longblob DEFAULT NULL,
+  MODIFY `feature_activation` longblob DEFAULT NULL,
+  MODIFY `activation_maximization` longblob DEFAULT NULL;
@@ -0,0 +1,11 @@
+-- 보관 배치(SoftDeleteArchiver) 의 FOR UPDATE SKIP LOCKED 조회용 인덱스
+-- deleted = true AND updated_at < ? ORDER BY updated_at 를 인덱스 순서로 읽어, 살아 있는 행을 PK 순으로 훑으며 잠그지 않도록 함
+CREATE INDEX idx_result_deleted_updated ON result (deleted, updated_at);
+CREATE INDEX idx_model_version_deleted_updated ON model_version (deleted, updated_at);
+CREATE INDEX idx_model_deleted_updated ON model (deleted, updated_at);
+
+-- 모델 삭제 시 버전만 소프트 삭제되고 결과는 남아 보관되지 않던 행 정리 (삭제 시점은 버전의 updated_at)
+UPDATE result r
+  JOIN model_version mv ON mv.model_version_id = r.model_version_id
+SET r.deleted = 1, r.updated_at = mv.updated_at
+WHERE mv.deleted = 1 AND r.deleted = 0;
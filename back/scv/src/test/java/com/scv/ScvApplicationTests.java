@@ -1,11 +1,21 @@
 package com.scv;
 
+import com.scv.support.EmbeddedMariaDb;
+import com.scv.support.EmbeddedRedis;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
 @SpringBootTest
 class ScvApplicationTests {
 
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+        EmbeddedRedis.register(registry);
+    }
+
     @Test
     void contextLoads() {
     }
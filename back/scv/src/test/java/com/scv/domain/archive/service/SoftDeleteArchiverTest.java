@@ -0,0 +1,103 @@
+package com.scv.domain.archive.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scv.domain.data.service.DataRegistry;
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.user.domain.User;
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.global.json.CompressedJson;
+import com.scv.support.EmbeddedMariaDb;
+import com.scv.support.EmbeddedRedis;
+import com.scv.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관 후 원본이 삭제되므로 archived_row 의 payload 만으로 원본 결과 컬럼을 그대로 되돌릴 수 있어야 함
+ */
+@SpringBootTest(properties = "spring.archive.enabled=true")
+@Transactional
+class SoftDeleteArchiverTest {
+
+    private static final String TRAIN_INFO = "{\"epoch\":[1,2,3],\"loss\":[0.9,0.5,0.2]}";
+    private static final String EXAMPLE_IMG = "[{\"img\":\"" + "iVBORw0KGgo".repeat(40) + "\",\"label\":7}]";
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+        EmbeddedRedis.register(registry);
+    }
+
+    @Autowired
+    private SoftDeleteArchiver archiver;
+
+    @Autowired
+    private DataRegistry dataRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void archivedResultRestoresCompressedColumnsByteForByte() throws Exception {
+        User user = TestFixtures.user(entityManager);
+        Model model = TestFixtures.model(entityManager, user, TestFixtures.mnist(entityManager, dataRegistry), "archive", 1);
+        ModelVersion modelVersion = TestFixtures.version(entityManager, model, 1);
+        TestFixtures.result(entityManager, modelVersion, TRAIN_INFO);
+        entityManager.flush();
+        Long id = modelVersion.getId();
+        byte[] exampleImg = CompressedJson.of(EXAMPLE_IMG).toStored();
+
+        // 보관 기간이 지난 소프트 삭제 결과
+        entityManager.createNativeQuery("UPDATE result SET example_img = :img, deleted = true, "
+                        + "updated_at = NOW(6) - INTERVAL 60 DAY WHERE model_version_id = :id")
+                .setParameter("img", exampleImg)
+                .setParameter("id", id)
+                .executeUpdate();
+        byte[] trainInfo = stored(id, "train_info");
+
+        archiver.archive();
+
+        assertThat(entityManager.createNativeQuery("SELECT COUNT(*) FROM result WHERE model_version_id = :id")
+                .setParameter("id", id)
+                .getSingleResult()).isEqualTo(0L);
+
+        JsonNode payload = payload(id);
+        assertThat(restore(payload, "train_info")).isEqualTo(trainInfo);
+        assertThat(restore(payload, "example_img")).isEqualTo(exampleImg);
+        assertThat(CompressedJson.fromStored(restore(payload, "example_img")).toJson()).isEqualTo(EXAMPLE_IMG);
+        assertThat(payload.get("confusion_matrix").isNull()).isTrue();
+        assertThat(payload.get("test_accuracy").asDouble()).isEqualTo(0.9);
+    }
+
+    private JsonNode payload(Long id) throws Exception {
+        byte[] json = (byte[]) entityManager.createNativeQuery("SELECT UNCOMPRESS(payload) FROM archived_row "
+                        + "WHERE source_table = 'result' AND source_id = :id")
+                .setParameter("id", id)
+                .getSingleResult();
+        return objectMapper.readTree(new String(json, StandardCharsets.UTF_8));
+    }
+
+    // TO_BASE64 는 76자마다 줄을 바꾸므로 MIME 디코더 사용
+    private static byte[] restore(JsonNode payload, String column) {
+        return Base64.getMimeDecoder().decode(payload.get(column).asText());
+    }
+
+    private byte[] stored(Long id, String column) {
+        return (byte[]) entityManager.createNativeQuery("SELECT " + column + " FROM result WHERE model_version_id = :id")
+                .setParameter("id", id)
+                .getSingleResult();
+    }
+}
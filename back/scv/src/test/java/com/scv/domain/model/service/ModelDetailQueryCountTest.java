@@ -0,0 +1,75 @@
+package com.scv.domain.model.service;
+
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.data.service.DataRegistry;
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.model.dto.response.ModelDetailResponse;
+import com.scv.domain.user.domain.User;
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.domain.version.dto.response.ModelVersionResponse;
+import com.scv.support.EmbeddedMariaDb;
+import com.scv.support.EmbeddedRedis;
+import com.scv.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ModelDetailQueryCountTest {
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+        EmbeddedRedis.register(registry);
+    }
+
+    @Autowired
+    private ModelService modelService;
+
+    @Autowired
+    private DataRegistry dataRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void getModelVersionsUsesTwoStatementsAndSkipsDeletedVersions() {
+        User user = TestFixtures.user(entityManager);
+        Data data = TestFixtures.mnist(entityManager, dataRegistry);
+        Model model = TestFixtures.model(entityManager, user, data, "query-count", 2);
+        for (int versionNo = 1; versionNo <= 3; versionNo++) {
+            ModelVersion modelVersion = TestFixtures.version(entityManager, model, versionNo);
+            if (versionNo == 3) {
+                modelVersion.delete();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ModelDetailResponse response = modelService.getModelVersions(model.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(response.modelVersions())
+                .extracting(ModelVersionResponse::versionNo)
+                .containsExactly(2, 1);
+        assertThat(response.userInfo().getUserId()).isEqualTo(user.getUserId());
+    }
+}
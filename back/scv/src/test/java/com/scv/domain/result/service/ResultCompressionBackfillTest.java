@@ -0,0 +1,84 @@
+package com.scv.domain.result.service;
+
+import com.scv.domain.data.service.DataRegistry;
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.user.domain.User;
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.global.json.CompressedJson;
+import com.scv.support.EmbeddedMariaDb;
+import com.scv.support.EmbeddedRedis;
+import com.scv.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.result-compression.backfill-enabled=true")
+@Transactional
+class ResultCompressionBackfillTest {
+
+    private static final String TRAIN_INFO = "{\"epoch\":[1,2,3],\"loss\":[0.9,0.5,0.2]}";
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+        EmbeddedRedis.register(registry);
+    }
+
+    @Autowired
+    private ResultCompressionBackfill backfill;
+
+    @Autowired
+    private DataRegistry dataRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void compressesPlainRowsWithoutTouchingVersionOrUpdatedAt() {
+        Long id = persistResult();
+        // V7 이전 행처럼 평문 JSON 바이트로 되돌림
+        entityManager.createNativeQuery("UPDATE result SET train_info = :plain WHERE model_version_id = :id")
+                .setParameter("plain", TRAIN_INFO.getBytes(StandardCharsets.UTF_8))
+                .setParameter("id", id)
+                .executeUpdate();
+        Object[] before = versionAndUpdatedAt(id);
+
+        backfill.backfill();
+
+        CompressedJson trainInfo = CompressedJson.fromStored(stored(id, "train_info"));
+        assertThat(trainInfo.isCompressed()).isTrue();
+        assertThat(trainInfo.toJson()).isEqualTo(TRAIN_INFO);
+        assertThat(CompressedJson.fromStored(stored(id, "layer_params")).toJson()).isEqualTo("[]");
+        assertThat(versionAndUpdatedAt(id)).isEqualTo(before);
+    }
+
+    private Long persistResult() {
+        User user = TestFixtures.user(entityManager);
+        Model model = TestFixtures.model(entityManager, user, TestFixtures.mnist(entityManager, dataRegistry), "backfill", 1);
+        ModelVersion modelVersion = TestFixtures.version(entityManager, model, 1);
+        TestFixtures.result(entityManager, modelVersion, TRAIN_INFO);
+        entityManager.flush();
+        entityManager.clear();
+        return modelVersion.getId();
+    }
+
+    private byte[] stored(Long id, String column) {
+        return (byte[]) entityManager.createNativeQuery("SELECT " + column + " FROM result WHERE model_version_id = :id")
+                .setParameter("id", id)
+                .getSingleResult();
+    }
+
+    private Object[] versionAndUpdatedAt(Long id) {
+        return (Object[]) entityManager.createNativeQuery("SELECT version, updated_at FROM result WHERE model_version_id = :id")
+                .setParameter("id", id)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,30 @@
+package com.scv.domain.version.enums;
+
+import com.scv.domain.version.exception.InvalidVersionFieldException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionDetailFieldTest {
+
+    @Test
+    void expandsSummaryToLayersAndMetrics() {
+        assertThat(VersionDetailField.parse("summary"))
+                .containsExactlyInAnyOrder(VersionDetailField.LAYERS, VersionDetailField.METRICS);
+    }
+
+    @Test
+    void parsesCommaSeparatedJsonKeys() {
+        assertThat(VersionDetailField.parse(" metrics, exampleImg ,,"))
+                .containsExactlyInAnyOrder(VersionDetailField.METRICS, VersionDetailField.EXAMPLE_IMG);
+    }
+
+    @Test
+    void rejectsUnknownOrEmptySelection() {
+        assertThatThrownBy(() -> VersionDetailField.parse("layers,password"))
+                .isInstanceOf(InvalidVersionFieldException.class);
+        assertThatThrownBy(() -> VersionDetailField.parse(" , "))
+                .isInstanceOf(InvalidVersionFieldException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.domain.version.dto.layer.FlattenDTO;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.response.ModelVersionLayerSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class LayerCacheTest {
+
+    private final LayerCache layerCache = new LayerCache(mock(LayerStore.class), 10);
+
+    @Test
+    void writePathEntryIsHitByRowReadFromDatabase() {
+        // 저장 직후 엔티티에는 나노초가 남아 있고, DB 에서 읽은 값은 마이크로초까지만 있음
+        LocalDateTime written = LocalDateTime.of(2024, 11, 1, 12, 0, 0, 123_456_789);
+        List<LayerDTO> cached = layerCache.put(version(1L, written), List.of(new FlattenDTO()));
+
+        ModelVersionLayerSource fromDb = new ModelVersionLayerSource(1L, 1L, written.truncatedTo(ChronoUnit.MICROS), null, "[]", 1);
+
+        assertThat(layerCache.getLayers(fromDb)).isSameAs(cached);
+    }
+
+    @Test
+    void modifiedVersionIsParsedAgain() {
+        LocalDateTime written = LocalDateTime.of(2024, 11, 1, 12, 0, 0, 123_456_000);
+        List<LayerDTO> cached = layerCache.put(version(1L, written), List.of(new FlattenDTO()));
+
+        ModelVersionLayerSource modified = new ModelVersionLayerSource(1L, 1L, written.plusNanos(1_000), null, "[]", 1);
+
+        assertThat(layerCache.getLayers(modified)).isNotSameAs(cached).isEmpty();
+    }
+
+    private static ModelVersion version(Long id, LocalDateTime updatedAt) {
+        ModelVersion version = ModelVersion.builder().id(id).layers("[]").build();
+        ReflectionTestUtils.setField(version, "updatedAt", updatedAt);
+        return version;
+    }
+}
@@ -0,0 +1,100 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.version.dto.layer.FlattenDTO;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.layer.convolution.Conv2dDTO;
+import com.scv.domain.version.dto.layer.linear.LinearDTO;
+import com.scv.domain.version.dto.layer.nonlinear.LeakyReLUDTO;
+import com.scv.domain.version.dto.layer.nonlinear.ReLUDTO;
+import com.scv.domain.version.dto.layer.pooling.MaxPool2dDTO;
+import com.scv.domain.version.dto.response.ModelVersionDiffResponse.LayerDiff;
+import com.scv.domain.version.dto.response.ModelVersionDiffResponse.ParamChange;
+import com.scv.domain.version.enums.LayerDiffType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LayerDiffCalculatorTest {
+
+    private final LayerDiffCalculator calculator = new LayerDiffCalculator();
+
+    @Test
+    void identicalLayersHaveNoDiff() {
+        assertThat(calculator.diff(cnn(), cnn())).isEmpty();
+    }
+
+    @Test
+    void detectsInsertedLayer() {
+        List<LayerDTO> target = List.of(new Conv2dDTO(1, 8, 3), new ReLUDTO(), new MaxPool2dDTO(2, 2), new FlattenDTO(), new LinearDTO(1352, 10));
+
+        assertThat(calculator.diff(cnn(), target))
+                .containsExactly(new LayerDiff(LayerDiffType.INSERTED, null, 2, "MaxPool2d", Map.of()));
+    }
+
+    @Test
+    void detectsRemovedLayer() {
+        List<LayerDTO> target = List.of(new Conv2dDTO(1, 8, 3), new FlattenDTO(), new LinearDTO(1352, 10));
+
+        assertThat(calculator.diff(cnn(), target))
+                .containsExactly(new LayerDiff(LayerDiffType.REMOVED, 1, null, "ReLU", Map.of()));
+    }
+
+    @Test
+    void reorderIsReportedAsInsertAndRemoveOfMovedLayer() {
+        List<LayerDTO> base = List.of(new Conv2dDTO(1, 8, 3), new ReLUDTO(), new MaxPool2dDTO(2, 2));
+        List<LayerDTO> target = List.of(new Conv2dDTO(1, 8, 3), new MaxPool2dDTO(2, 2), new ReLUDTO());
+
+        assertThat(calculator.diff(base, target)).containsExactly(
+                new LayerDiff(LayerDiffType.INSERTED, null, 1, "MaxPool2d", Map.of()),
+                new LayerDiff(LayerDiffType.REMOVED, 2, null, "MaxPool2d", Map.of()));
+    }
+
+    @Test
+    void duplicateNamesAlignToTheRemovedOccurrence() {
+        List<LayerDTO> base = List.of(new ReLUDTO(), new LinearDTO(10, 5), new ReLUDTO(), new LinearDTO(5, 2));
+        List<LayerDTO> target = List.of(new ReLUDTO(), new LinearDTO(10, 5), new LinearDTO(5, 2));
+
+        assertThat(calculator.diff(base, target))
+                .containsExactly(new LayerDiff(LayerDiffType.REMOVED, 2, null, "ReLU", Map.of()));
+    }
+
+    @Test
+    void duplicateNameAppendedIsInsertedNotChanged() {
+        List<LayerDTO> base = List.of(new Conv2dDTO(1, 8, 3));
+        List<LayerDTO> target = List.of(new Conv2dDTO(1, 8, 3), new Conv2dDTO(8, 16, 3));
+
+        assertThat(calculator.diff(base, target))
+                .containsExactly(new LayerDiff(LayerDiffType.INSERTED, null, 1, "Conv2d", Map.of()));
+    }
+
+    @Test
+    void reportsChangedParametersOnly() {
+        List<LayerDTO> base = List.of(new LinearDTO(10, 5), new LeakyReLUDTO(0.01));
+        List<LayerDTO> target = List.of(new LinearDTO(10, 7), new LeakyReLUDTO(0.2));
+
+        List<LayerDiff> diffs = calculator.diff(base, target);
+
+        assertThat(diffs).extracting(LayerDiff::type, LayerDiff::baseIndex, LayerDiff::targetIndex, LayerDiff::layerName)
+                .containsExactly(
+                        tuple(LayerDiffType.CHANGED, 0, 0, "Linear"),
+                        tuple(LayerDiffType.CHANGED, 1, 1, "LeakyReLU"));
+
+        Map<String, ParamChange> linear = diffs.get(0).paramChanges();
+        assertThat(linear).containsOnlyKeys("outFeatures");
+        assertThat(linear.get("outFeatures").before().asInt()).isEqualTo(5);
+        assertThat(linear.get("outFeatures").after().asInt()).isEqualTo(7);
+
+        Map<String, ParamChange> leakyRelu = diffs.get(1).paramChanges();
+        assertThat(leakyRelu).containsOnlyKeys("negativeSlope");
+        assertThat(leakyRelu.get("negativeSlope").before().asDouble()).isEqualTo(0.01);
+        assertThat(leakyRelu.get("negativeSlope").after().asDouble()).isEqualTo(0.2);
+    }
+
+    private static List<LayerDTO> cnn() {
+        return List.of(new Conv2dDTO(1, 8, 3), new ReLUDTO(), new FlattenDTO(), new LinearDTO(1352, 10));
+    }
+}
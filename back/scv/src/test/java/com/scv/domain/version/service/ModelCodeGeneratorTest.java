@@ -0,0 +1,96 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.data.enums.DataSet;
+import com.scv.domain.version.dto.layer.FlattenDTO;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.layer.convolution.Conv2dDTO;
+import com.scv.domain.version.dto.layer.convolution.ConvTranspose2dDTO;
+import com.scv.domain.version.dto.layer.linear.LinearDTO;
+import com.scv.domain.version.dto.layer.nonlinear.*;
+import com.scv.domain.version.dto.layer.padding.ConstantPad2dDTO;
+import com.scv.domain.version.dto.layer.padding.ReflectionPad2dDTO;
+import com.scv.domain.version.dto.layer.padding.ReplicationPad2dDTO;
+import com.scv.domain.version.dto.layer.padding.ZeroPad2dDTO;
+import com.scv.domain.version.dto.layer.pooling.AvgPool2dDTO;
+import com.scv.domain.version.dto.layer.pooling.MaxPool2dDTO;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 학습 서버 model_code_generator.py 출력과 비교 (기대값: src/test/resources/model-code, generate_golden.py 로 생성)
+ */
+class ModelCodeGeneratorTest {
+
+    private final ModelCodeGenerator generator = new ModelCodeGenerator();
+    private final Data mnist = Data.builder().id(1).name(DataSet.MNIST).trainCnt(60000).testCnt(10000).labelCnt(10).epochCnt(10).build();
+
+    // generate_golden.py 의 cases 와 같은 구성
+    static Stream<Arguments> layers() {
+        return Stream.of(
+                Arguments.of("Conv2d", new Conv2dDTO(1, 8, 3)),
+                Arguments.of("ConvTranspose2d", new ConvTranspose2dDTO(8, 1, 3)),
+                Arguments.of("MaxPool2d", new MaxPool2dDTO(2, 2)),
+                Arguments.of("AvgPool2d", new AvgPool2dDTO(3, 0)),
+                Arguments.of("ReflectionPad2d", new ReflectionPad2dDTO(2)),
+                Arguments.of("ReplicationPad2d", new ReplicationPad2dDTO(1)),
+                Arguments.of("ZeroPad2d", new ZeroPad2dDTO(1)),
+                Arguments.of("ConstantPad2d", new ConstantPad2dDTO(1, 0.5)),
+                Arguments.of("ReLU", new ReLUDTO()),
+                Arguments.of("LeakyReLU", new LeakyReLUDTO(1e-05)),
+                Arguments.of("ELU", new ELUDTO(1.0)),
+                Arguments.of("PReLU", new PReLUDTO(1, 0.25)),
+                Arguments.of("Sigmoid", new SigmoidDTO()),
+                Arguments.of("Tanh", new TanhDTO()),
+                Arguments.of("Softmax", new SoftmaxDTO(1)),
+                Arguments.of("LogSoftmax", new LogSoftmaxDTO(1)),
+                Arguments.of("GELU", new GELUDTO()),
+                Arguments.of("Linear", new LinearDTO(784, 10)),
+                Arguments.of("Flatten", new FlattenDTO()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("layers")
+    void matchesPythonGenerator(String name, LayerDTO layer) throws IOException {
+        assertThat(generator.generate(1L, 2L, List.of(layer), mnist)).isEqualTo(golden(name));
+    }
+
+    // 기대값은 python3 -c "print(repr(x))"
+    @ParameterizedTest
+    @CsvSource({
+            "0.01, 0.01",
+            "1.0, 1.0",
+            "100.0, 100.0",
+            "0.0001, 0.0001",
+            "0.00001, 1e-05",
+            "0.00000015, 1.5e-07",
+            "1e16, 1e+16",
+            "12345678901234567.0, 1.2345678901234568e+16",
+            "-0.003, -0.003",
+            "-0.00002, -2e-05",
+            "0.1, 0.1",
+            "0.3, 0.3"
+    })
+    void formatsFloatsLikePythonRepr(double value, String expected) {
+        String code = generator.generate(1L, 2L, List.of(new LeakyReLUDTO(value)), mnist);
+
+        assertThat(code).contains("nn.LeakyReLU(negative_slope=" + expected + ")\n");
+    }
+
+    private static String golden(String name) throws IOException {
+        try (InputStream in = ModelCodeGeneratorTest.class.getResourceAsStream("/model-code/" + name + ".py")) {
+            assertThat(in).as("기대값 파일 %s.py", name).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.data.service.DataRegistry;
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.result.domain.Result;
+import com.scv.domain.user.domain.User;
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.domain.version.dto.request.ModelVersionRequest;
+import com.scv.domain.version.dto.response.ModelVersionDetail;
+import com.scv.domain.version.dto.response.ModelVersionDetailWithResult;
+import com.scv.domain.version.dto.response.ModelVersionSparseDetail;
+import com.scv.domain.version.enums.VersionDetailField;
+import com.scv.domain.version.exception.ModelVersionNotFoundException;
+import com.scv.global.oauth2.auth.CustomOAuth2User;
+import com.scv.global.oauth2.dto.OAuth2UserDTO;
+import com.scv.support.EmbeddedMariaDb;
+import com.scv.support.EmbeddedRedis;
+import com.scv.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ModelVersionService 의 쓰기 흐름 (saveResult 가 단계별로 트랜잭션을 나누므로 테스트도 커밋된 데이터로 실행)
+ * 학습 / 테스트 서버 호출은 fastApiRestTemplate 목으로 대체
+ */
+@SpringBootTest
+class ModelVersionServiceTest {
+
+    private static final Set<VersionDetailField> RESULT_FIELDS =
+            EnumSet.of(VersionDetailField.METRICS, VersionDetailField.CODE_VIEW, VersionDetailField.TRAIN_INFOS);
+
+    private static final String ANALYSIS = "{\"confusion_matrix\":[],\"example_image\":[],"
+            + "\"feature_activation\":[],\"activation_maximization\":[]}";
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+        EmbeddedRedis.register(registry);
+    }
+
+    @MockBean(name = "fastApiRestTemplate")
+    private RestTemplate fastApiRestTemplate;
+
+    @Autowired
+    private ModelVersionService modelVersionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataRegistry dataRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void deletingOlderVersionKeepsNumberOfEditedLatestVersion() throws Exception {
+        // v1 ~ v3 저장 완료, v3 는 수정돼 결과가 지워지고, 새 버전은 테스트 결과 저장 전
+        Fixture fixture = transactionTemplate.execute(status -> {
+            User user = TestFixtures.user(entityManager);
+            Model model = TestFixtures.model(entityManager, user, TestFixtures.mnist(entityManager, dataRegistry), "edited-latest", 3);
+            ModelVersion v1 = TestFixtures.version(entityManager, model, 1);
+            TestFixtures.result(entityManager, v1, "{}");
+            TestFixtures.result(entityManager, TestFixtures.version(entityManager, model, 2), "{}");
+            ModelVersion v3 = TestFixtures.version(entityManager, model, 3);
+            TestFixtures.result(entityManager, v3, "{}");
+            ModelVersion draft = TestFixtures.version(entityManager, model, 0);
+            TestFixtures.result(entityManager, draft, "{}");
+            return new Fixture(user, model.getId(), v1.getId(), v3.getId(), draft.getId());
+        });
+        CustomOAuth2User owner = owner(fixture.user());
+
+        modelVersionService.updateModelVersion(fixture.v3Id(), new ModelVersionRequest(List.of()), owner);
+        assertThat(resultExists(fixture.v3Id())).isFalse();
+        modelVersionService.deleteModelVersion(fixture.v1Id(), owner);
+
+        assertThat(latestVersion(fixture.modelId())).isEqualTo(3);
+
+        given(fastApiRestTemplate.getForEntity(anyString(), eq(String.class))).willReturn(ResponseEntity.ok(ANALYSIS));
+        modelVersionService.saveResult(fixture.draftId());
+
+        assertThat(versionNo(fixture.draftId())).isEqualTo(4);
+        assertThat(latestVersion(fixture.modelId())).isEqualTo(4);
+    }
+
+    @Test
+    void fullAndSparseDetailBothIgnoreDeletedResult() {
+        Long[] ids = transactionTemplate.execute(status -> {
+            Model model = TestFixtures.model(entityManager, TestFixtures.user(entityManager), TestFixtures.mnist(entityManager, dataRegistry), "deleted-result", 2);
+            ModelVersion live = TestFixtures.version(entityManager, model, 1);
+            TestFixtures.result(entityManager, live, "{}");
+            ModelVersion deleted = TestFixtures.version(entityManager, model, 2);
+            TestFixtures.result(entityManager, deleted, "{}").delete();
+            return new Long[]{live.getId(), deleted.getId()};
+        });
+
+        assertThat(modelVersionService.getModelVersion(ids[0])).isInstanceOf(ModelVersionDetailWithResult.class);
+        assertThat(modelVersionService.getModelVersion(ids[0], RESULT_FIELDS).getResultResponseWithImages()).isNotNull();
+
+        ModelVersionDetail detail = modelVersionService.getModelVersion(ids[1]);
+        assertThat(detail).isNotInstanceOf(ModelVersionDetailWithResult.class);
+        ModelVersionSparseDetail sparse = modelVersionService.getModelVersion(ids[1], RESULT_FIELDS);
+        assertThat(sparse.getModelVersionId()).isEqualTo(ids[1]);
+        assertThat(sparse.getResultResponseWithImages()).isNull();
+    }
+
+    @Test
+    void fullAndSparseDetailBothRejectDeletedVersion() {
+        Long versionId = transactionTemplate.execute(status -> {
+            Model model = TestFixtures.model(entityManager, TestFixtures.user(entityManager), TestFixtures.mnist(entityManager, dataRegistry), "deleted-version", 0);
+            ModelVersion version = TestFixtures.version(entityManager, model, 1);
+            TestFixtures.result(entityManager, version, "{}");
+            version.delete();
+            return version.getId();
+        });
+
+        assertThatThrownBy(() -> modelVersionService.getModelVersion(versionId))
+                .isInstanceOf(ModelVersionNotFoundException.class);
+        assertThatThrownBy(() -> modelVersionService.getModelVersion(versionId, RESULT_FIELDS))
+                .isInstanceOf(ModelVersionNotFoundException.class);
+    }
+
+    private boolean resultExists(Long versionId) {
+        return transactionTemplate.execute(status -> entityManager.find(Result.class, versionId) != null);
+    }
+
+    private int versionNo(Long versionId) {
+        return transactionTemplate.execute(status -> entityManager.find(ModelVersion.class, versionId).getVersionNo());
+    }
+
+    private int latestVersion(Long modelId) {
+        return transactionTemplate.execute(status -> entityManager.find(Model.class, modelId).getLatestVersion());
+    }
+
+    private static CustomOAuth2User owner(User user) {
+        return new CustomOAuth2User(OAuth2UserDTO.builder()
+                .userId(user.getUserId())
+                .userUuid(user.getUserUuid())
+                .userNickname(user.getUserNickname())
+                .build());
+    }
+
+    private record Fixture(User user, Long modelId, Long v1Id, Long v3Id, Long draftId) {
+    }
+}
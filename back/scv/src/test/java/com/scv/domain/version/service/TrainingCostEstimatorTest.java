@@ -0,0 +1,51 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.data.enums.DataSet;
+import com.scv.domain.version.dto.layer.FlattenDTO;
+import com.scv.domain.version.dto.layer.LayerDTO;
+import com.scv.domain.version.dto.layer.convolution.Conv2dDTO;
+import com.scv.domain.version.dto.layer.linear.LinearDTO;
+import com.scv.domain.version.dto.response.TrainingCostResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrainingCostEstimatorTest {
+
+    private final TrainingCostEstimator estimator = new TrainingCostEstimator(64, 5_000_000_000L);
+    private final Data mnist = Data.builder().id(1).name(DataSet.MNIST).trainCnt(60000).testCnt(10000).labelCnt(10).epochCnt(10).build();
+
+    @Test
+    void countsConv2dFlopsAndParams() {
+        TrainingCostResponse cost = estimator.estimate(List.of(new Conv2dDTO(1, 32, 3)), mnist);
+
+        // 1x28x28 -> 32x26x26, 커널 1x3x3
+        assertThat(cost.forwardFlops()).isEqualTo(2L * 9 * 32 * 26 * 26);
+        assertThat(cost.totalParams()).isEqualTo(9 * 32 + 32);
+        assertThat(cost.totalFlops()).isEqualTo((cost.forwardFlops() * 3 * 60000 + cost.forwardFlops() * 10000) * 10);
+        assertThat(cost.expectedSeconds()).isEqualTo(cost.totalFlops() / 5e9);
+    }
+
+    @Test
+    void peakMemoryCoversBatchActivationsAndOptimizerState() {
+        TrainingCostResponse cost = estimator.estimate(List.of(new Conv2dDTO(1, 32, 3)), mnist);
+
+        long activations = 28 * 28 + 32 * 26 * 26;
+        assertThat(cost.peakMemoryBytes()).isEqualTo((activations * 64 + 320 * 4) * 4);
+    }
+
+    @Test
+    void largerModelIsEstimatedSlower() {
+        List<LayerDTO> small = List.of(new Conv2dDTO(1, 8, 3), new FlattenDTO(), new LinearDTO(8 * 26 * 26, 10));
+        List<LayerDTO> large = List.of(new Conv2dDTO(1, 64, 3), new Conv2dDTO(64, 64, 3), new FlattenDTO(), new LinearDTO(64 * 24 * 24, 10));
+
+        TrainingCostResponse smallCost = estimator.estimate(small, mnist);
+        TrainingCostResponse largeCost = estimator.estimate(large, mnist);
+
+        assertThat(largeCost.expectedSeconds()).isGreaterThan(smallCost.expectedSeconds());
+        assertThat(largeCost.peakMemoryBytes()).isGreaterThan(smallCost.peakMemoryBytes());
+    }
+}
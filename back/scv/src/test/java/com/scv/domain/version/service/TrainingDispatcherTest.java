@@ -0,0 +1,161 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.user.exception.InternalServerException;
+import com.scv.domain.version.dto.response.TrainingCostResponse;
+import com.scv.domain.version.exception.TrainingBudgetExceededException;
+import com.scv.global.bulkhead.BulkheadFullException;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrainingDispatcherTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runsShorterTrainingFirst() throws Exception {
+        TrainingDispatcher dispatcher = dispatcher(16, 60_000, 0.0);
+        List<String> order = new CopyOnWriteArrayList<>();
+        occupy(dispatcher);
+
+        Future<?> slow = submit(dispatcher, 100, order, "slow");
+        awaitWaiting(dispatcher, 1);
+        Future<?> fast = submit(dispatcher, 1, order, "fast");
+        awaitWaiting(dispatcher, 2);
+
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        fast.get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly("fast", "slow");
+    }
+
+    @Test
+    void agingLetsEarlierLongTrainingGoFirst() throws Exception {
+        TrainingDispatcher dispatcher = dispatcher(16, 60_000, 1_000_000.0);
+        List<String> order = new CopyOnWriteArrayList<>();
+        occupy(dispatcher);
+
+        Future<?> slow = submit(dispatcher, 100, order, "slow");
+        awaitWaiting(dispatcher, 1);
+        Thread.sleep(5);
+        Future<?> fast = submit(dispatcher, 1, order, "fast");
+        awaitWaiting(dispatcher, 2);
+
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        fast.get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly("slow", "fast");
+    }
+
+    @Test
+    void rejectsTrainingOverMemoryBudget() {
+        TrainingDispatcher dispatcher = dispatcher(16, 60_000, 1.0);
+        TrainingCostResponse cost = new TrainingCostResponse(0, 0, 0, 2L * 1024 * 1024 * 1024, 1);
+
+        assertThatThrownBy(() -> dispatcher.dispatch(cost, () -> {
+            throw new AssertionError("학습 서버를 호출하면 안 됨");
+        })).isInstanceOf(TrainingBudgetExceededException.class);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        TrainingDispatcher dispatcher = dispatcher(1, 60_000, 1.0);
+        occupy(dispatcher);
+        submit(dispatcher, 1, new CopyOnWriteArrayList<>(), "queued");
+        awaitWaiting(dispatcher, 1);
+
+        assertThatThrownBy(() -> dispatcher.dispatch(cost(1), () -> "rejected"))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(dispatcher.waitingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failsAfterMaxWait() throws Exception {
+        TrainingDispatcher dispatcher = dispatcher(16, 50, 1.0);
+        occupy(dispatcher);
+
+        assertThatThrownBy(() -> dispatcher.dispatch(cost(1), () -> "timed out"))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(dispatcher.waitingCount()).isZero();
+    }
+
+    @Test
+    void interruptedWaiterLeavesQueueAndKeepsInterruptFlag() throws Exception {
+        TrainingDispatcher dispatcher = dispatcher(16, 60_000, 1.0);
+        occupy(dispatcher);
+
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        AtomicReference<Boolean> interrupted = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                dispatcher.dispatch(cost(1), () -> "never");
+            } catch (Throwable e) {
+                thrown.set(e);
+                interrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        waiter.start();
+        awaitWaiting(dispatcher, 1);
+
+        waiter.interrupt();
+        waiter.join(5_000);
+
+        assertThat(thrown.get()).isInstanceOf(InternalServerException.class);
+        assertThat(interrupted.get()).isTrue();
+        assertThat(dispatcher.waitingCount()).isZero();
+    }
+
+    private TrainingDispatcher dispatcher(int maxQueue, long maxWaitMs, double agingFactor) {
+        return new TrainingDispatcher(ObservationRegistry.NOOP, 1, 1024, maxQueue, maxWaitMs, agingFactor);
+    }
+
+    private static TrainingCostResponse cost(double expectedSeconds) {
+        return new TrainingCostResponse(0, 0, 0, 0, expectedSeconds);
+    }
+
+    // 슬롯 하나를 release 전까지 점유
+    private void occupy(TrainingDispatcher dispatcher) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> dispatcher.dispatch(cost(1), () -> {
+            started.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Future<?> submit(TrainingDispatcher dispatcher, double expectedSeconds, List<String> order, String name) {
+        return executor.submit(() -> dispatcher.dispatch(cost(expectedSeconds), () -> order.add(name)));
+    }
+
+    private static void awaitWaiting(TrainingDispatcher dispatcher, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.waitingCount() < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.scv.domain.version.service;
+
+import com.scv.domain.data.service.DataRegistry;
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.user.domain.User;
+import com.scv.domain.user.repository.UserRepository;
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.domain.version.repository.ModelVersionRepository;
+import com.scv.support.EmbeddedMariaDb;
+import com.scv.support.EmbeddedRedis;
+import com.scv.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * writeWithRetry 의 재시도 판단 (실제 DB 가 돌려주는 제약 위반으로 확인)
+ */
+@SpringBootTest
+@Transactional
+class VersionNoAllocatorTest {
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+        EmbeddedRedis.register(registry);
+    }
+
+    @Autowired
+    private ModelVersionRepository modelVersionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataRegistry dataRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void duplicateVersionNoIsRetryable() {
+        User user = TestFixtures.user(entityManager);
+        Model model = TestFixtures.model(entityManager, user, TestFixtures.mnist(entityManager, dataRegistry), "duplicate-no", 1);
+        TestFixtures.version(entityManager, model, 1);
+        entityManager.flush();
+
+        DataIntegrityViolationException e = catchThrowableOfType(
+                () -> modelVersionRepository.saveAndFlush(ModelVersion.builder().model(model).versionNo(1).layers("[]").isWorkingOn(false).build()),
+                DataIntegrityViolationException.class);
+
+        assertThat(e).isNotNull();
+        assertThat(VersionNoAllocator.isDuplicateVersionNo(e)).isTrue();
+    }
+
+    @Test
+    void otherConstraintViolationIsNotRetryable() {
+        User user = TestFixtures.user(entityManager);
+        entityManager.flush();
+
+        // 같은 이메일 (다른 유니크 키)
+        DataIntegrityViolationException e = catchThrowableOfType(
+                () -> userRepository.saveAndFlush(User.builder()
+                        .userUuid(UUID.randomUUID().toString())
+                        .userEmail(user.getUserEmail())
+                        .userImageUrl(user.getUserImageUrl())
+                        .userNickname("copy")
+                        .userCreatedAt(LocalDateTime.now())
+                        .userUpdatedAt(LocalDateTime.now())
+                        .build()),
+                DataIntegrityViolationException.class);
+
+        assertThat(e).isNotNull();
+        assertThat(VersionNoAllocator.isDuplicateVersionNo(e)).isFalse();
+    }
+}
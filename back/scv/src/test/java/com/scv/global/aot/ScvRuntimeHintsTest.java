@@ -0,0 +1,29 @@
+package com.scv.global.aot;
+
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.model.domain.QModel;
+import com.scv.domain.version.dto.layer.convolution.Conv2dDTO;
+import com.scv.domain.version.dto.layer.nonlinear.ReLUDTO;
+import com.scv.domain.version.dto.response.LatestVersionAccuracy;
+import com.scv.domain.version.dto.response.ModelVersionLayerSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScvRuntimeHintsTest {
+
+    @Test
+    void registersReflectionForPolymorphicDtosBuildersQClassesAndProjections() {
+        RuntimeHints hints = new RuntimeHints();
+        new ScvRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(Conv2dDTO.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ReLUDTO.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(QModel.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Model.ModelBuilder.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(LatestVersionAccuracy.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ModelVersionLayerSource.class)).accepts(hints);
+    }
+}
@@ -0,0 +1,71 @@
+package com.scv.global.config;
+
+import com.scv.support.EmbeddedMariaDb;
+import com.scv.support.EmbeddedRedis;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * actuator 는 health 만 공개, 나머지는 actuator 계정 필요
+ */
+@SpringBootTest(properties = {
+        "spring.security.user.name=actuator",
+        "spring.security.user.password=secret"
+})
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+        EmbeddedRedis.register(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void otherEndpointsRequireActuatorUser() throws Exception {
+        mockMvc.perform(post("/actuator/dataregistry"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/secondlevelcache"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/dataregistry").with(httpBasic("actuator", "wrong")))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/actuator/dataregistry").with(httpBasic("actuator", "secret")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/secondlevelcache").with(httpBasic("actuator", "secret")))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor httpBasic(String username, String password) {
+        String token = Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        return request -> {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + token);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.scv.global.datasource;
+
+import com.scv.global.config.DataSourceConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * replica 라우팅 사용 시 직접 만드는 커넥션 풀 (풀은 첫 커넥션 요청 때 시작하므로 DB 없이 확인)
+ */
+class DataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(Properties.class, DataSourceConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "spring.datasource.replica.enabled=true",
+                    "spring.datasource.replica.urls=jdbc:mysql://replica-0/scv,jdbc:mysql://replica-1/scv",
+                    "spring.datasource.url=jdbc:mysql://primary/scv",
+                    "spring.datasource.username=scv",
+                    "spring.datasource.password=secret",
+                    "spring.datasource.hikari.maximum-pool-size=7",
+                    "spring.datasource.hikari.connection-timeout=1500",
+                    "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true");
+
+    @Test
+    void poolsUseHikariPropertiesAndCloseWithContext() {
+        AtomicReference<List<HikariDataSource>> pools = new AtomicReference<>();
+
+        contextRunner.run(context -> {
+            HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+            List<HikariDataSource> replicas = context.getBean(ReplicaLagMonitor.class).getReplicas().values().stream()
+                    .map(HikariDataSource.class::cast)
+                    .toList();
+
+            assertThat(primary.getJdbcUrl()).isEqualTo("jdbc:mysql://primary/scv");
+            assertThat(primary.isReadOnly()).isFalse();
+            assertThat(replicas).extracting(HikariDataSource::getJdbcUrl)
+                    .containsExactly("jdbc:mysql://replica-0/scv", "jdbc:mysql://replica-1/scv");
+            assertThat(replicas).extracting(HikariDataSource::getPoolName).containsExactly("replica-0", "replica-1");
+            assertThat(replicas).allMatch(HikariDataSource::isReadOnly);
+
+            pools.set(new ArrayList<>(replicas));
+            pools.get().add(primary);
+            for (HikariDataSource pool : pools.get()) {
+                assertThat(pool.getUsername()).isEqualTo("scv");
+                assertThat(pool.getMaximumPoolSize()).isEqualTo(7);
+                assertThat(pool.getConnectionTimeout()).isEqualTo(1500);
+                assertThat(pool.getDataSourceProperties()).containsEntry("rewriteBatchedStatements", "true");
+                assertThat(pool.isClosed()).isFalse();
+            }
+        });
+
+        assertThat(pools.get()).hasSize(3).allMatch(HikariDataSource::isClosed);
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class Properties {
+    }
+}
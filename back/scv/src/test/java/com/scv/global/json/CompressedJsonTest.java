@@ -0,0 +1,58 @@
+package com.scv.global.json;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedJsonTest {
+
+    private static final String JSON = "{\"train_result_per_epoch\":[" + "{\"epoch\":1,\"loss\":0.5},".repeat(200) + "{}]}";
+
+    @Test
+    void storesGzipAndRestoresJson() {
+        CompressedJson json = CompressedJson.of(JSON);
+
+        assertThat(json.isCompressed()).isTrue();
+        assertThat(json.toStored().length).isLessThan(JSON.length() / 10);
+        assertThat(json.toJson()).isEqualTo(JSON);
+    }
+
+    @Test
+    void readsPlainRowsWrittenBeforeCompression() throws IOException {
+        CompressedJson legacy = CompressedJson.fromStored(JSON.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(legacy.isCompressed()).isFalse();
+        assertThat(legacy.toJson()).isEqualTo(JSON);
+        assertThat(gunzip(legacy.gzipBytes())).isEqualTo(JSON);
+    }
+
+    @Test
+    void servesStoredBytesOnlyWhenGzipIsAccepted() {
+        CompressedJson json = CompressedJson.of(JSON);
+
+        ResponseEntity<byte[]> gzip = CompressedJsonResponse.of(json, "gzip, deflate, br");
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getBody()).isSameAs(json.toStored());
+
+        ResponseEntity<byte[]> identity = CompressedJsonResponse.of(json, "gzip;q=0, *");
+        assertThat(identity.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(new String(identity.getBody(), StandardCharsets.UTF_8)).isEqualTo(JSON);
+
+        assertThat(CompressedJsonResponse.acceptsGzip(null)).isFalse();
+        assertThat(CompressedJsonResponse.acceptsGzip("br")).isFalse();
+        assertThat(CompressedJsonResponse.acceptsGzip("*")).isTrue();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.scv.global.migration;
+
+import com.scv.domain.data.enums.DataSet;
+import com.scv.domain.model.repository.ModelRepository;
+import com.scv.domain.result.enums.ResultField;
+import com.scv.domain.result.repository.ResultRepository;
+import com.scv.domain.version.repository.ModelVersionRepository;
+import com.scv.global.config.QuerydslConfig;
+import com.scv.support.CapturingStatementInspector;
+import com.scv.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 로 만든 스키마에서 ModelRepositoryImpl / ModelVersionRepositoryImpl / ResultRepositoryImpl 의 조회 쿼리를 실행하고
+ * 생성된 SQL 마다 EXPLAIN 을 실행해 풀 테이블 스캔(type = ALL)이 없는지 확인
+ * 내장 MariaDB 에서 실행하므로 Docker 없이도 항상 실행됨 (건너뛰지 않음)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.scv.support.CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryIndexUsageTest {
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+    }
+
+    private static boolean seeded;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ModelRepository modelRepository;
+
+    @Autowired
+    private ModelVersionRepository modelVersionRepository;
+
+    @Autowired
+    private ResultRepository resultRepository;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // 옵티마이저가 작은 테이블이라 풀 스캔을 고르지 않도록 사용자 200명, 모델 5000개, 버전 15000개 생성
+        // V1 의 AUTO_INCREMENT 시작값, 같은 내장 DB 에 커밋하는 다른 테스트와 겹치지 않도록 100000 이후 id 를 직접 지정
+        jdbcTemplate.execute("SET SESSION max_recursive_iterations = 20000");
+        jdbcTemplate.execute("INSERT INTO user (user_id, user_uuid, user_email, user_image_url, user_nickname, user_created_at, user_updated_at, user_is_deleted) "
+                + "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 200) "
+                + "SELECT 100000 + n, UUID(), CONCAT('user', n, '@scv.test'), 'image', CONCAT('user', n), NOW(6), NOW(6), 0 FROM seq");
+        jdbcTemplate.execute("INSERT INTO model (model_id, user_id, data_id, model_name, model_latest, model_latest_accuracy, created_at, updated_at, deleted) "
+                + "WITH RECURSIVE seq(n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 4999) "
+                + "SELECT 100001 + n, 100001 + n % 200, 1 + n % 5, CONCAT('model', n), n % 4, 0.9, NOW(6) - INTERVAL n MINUTE, NOW(6), n % 10 = 0 FROM seq");
+        jdbcTemplate.execute("INSERT INTO model_version (model_version_id, model_id, version_no, is_working_on, created_at, updated_at, deleted) "
+                + "WITH RECURSIVE seq(n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 14999) "
+                + "SELECT 100001 + n, 100001 + n % 5000, 1 + n DIV 5000, n % 7 = 0, NOW(6) - INTERVAL n MINUTE, NOW(6), n % 9 = 0 FROM seq");
+        jdbcTemplate.execute("INSERT INTO result (model_version_id, test_accuracy, test_loss, total_params, version, created_at, updated_at, deleted) "
+                + "SELECT model_version_id, 0.9, 0.1, 1000, 0, NOW(6), NOW(6), deleted FROM model_version WHERE model_id > 100000 AND version_no <= 2");
+        jdbcTemplate.execute("ANALYZE TABLE user, model, model_version, result");
+        seeded = true;
+    }
+
+    @Test
+    void modelQueriesUseIndexes() {
+        Pageable pageable = PageRequest.of(0, 12, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        assertNoFullScan(() -> modelRepository.searchModels(null, null, pageable));
+        assertNoFullScan(() -> modelRepository.searchModels(null, DataSet.MNIST, pageable));
+        assertNoFullScan(() -> modelRepository.searchModels("model1", null, pageable));
+        assertNoFullScan(() -> modelRepository.searchMyModels(null, null, 1L, pageable));
+        assertNoFullScan(() -> modelRepository.searchMyModels("model1", DataSet.MNIST, 1L, pageable));
+        assertNoFullScan(() -> modelRepository.findModelDetail(1L));
+    }
+
+    @Test
+    void modelVersionQueriesUseIndexes() {
+        Pageable pageable = PageRequest.of(0, 12, Sort.by(Sort.Direction.DESC, "updatedAt"));
+
+        assertNoFullScan(() -> modelVersionRepository.findAllByModelIdAndDeletedFalse(1L));
+        assertNoFullScan(() -> modelVersionRepository.findLatestVersionAccuracy(1L));
+        assertNoFullScan(() -> modelVersionRepository.findAllByUserAndIsWorkingTrueAndDeletedFalse(null, null, 1L, pageable));
+        assertNoFullScan(() -> modelVersionRepository.findAllByUserAndIsWorkingTrueAndDeletedFalse("model1", DataSet.MNIST, 1L, pageable));
+        assertNoFullScan(() -> modelVersionRepository.findWithModelAndResultById(1L));
+        assertNoFullScan(() -> modelVersionRepository.findLayerSourceById(1L));
+    }
+
+    @Test
+    void resultQueriesUseIndexes() {
+        assertNoFullScan(() -> resultRepository.findSparse(1L, true, true, Set.of(ResultField.values())));
+    }
+
+    private void assertNoFullScan(Runnable query) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        query.run();
+
+        List<String> statements = new ArrayList<>(CapturingStatementInspector.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+
+        for (String sql : statements) {
+            for (Map<String, Object> row : explain(sql)) {
+                assertThat(String.valueOf(row.get("type")))
+                        .as("full scan on %s%n%s", row.get("table"), sql)
+                        .isNotEqualToIgnoringCase("ALL");
+            }
+        }
+    }
+
+    // 바인딩 값은 실행 계획만 확인하므로 모두 1 로 대체
+    private List<Map<String, Object>> explain(String sql) {
+        int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+        Object[] parameters = new Object[parameterCount];
+        Arrays.fill(parameters, 1L);
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, parameters);
+    }
+}
@@ -0,0 +1,132 @@
+package com.scv.global.query;
+
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.data.service.DataRegistry;
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.user.domain.User;
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.support.CapturingStatementInspector;
+import com.scv.support.EmbeddedMariaDb;
+import com.scv.support.EmbeddedRedis;
+import com.scv.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 공개 조회 API 의 요청당 쿼리 수 상한 (QueryInspectionFilter 의 X-Query-Count 헤더로 확인)
+ * 상한을 넘으면 N+1 또는 지연 로딩이 새로 생긴 것
+ * 요약 조회는 실행된 SQL 도 검사해 학습 결과의 대용량 컬럼을 읽지 않는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.query-inspector.enabled=true",
+        "jdbc.datasource-proxy.enabled=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.scv.support.CapturingStatementInspector"
+})
+@AutoConfigureMockMvc
+@Transactional
+class QueryBudgetTest {
+
+    // results 테이블의 LONGBLOB 컬럼
+    private static final Pattern BLOB_COLUMNS = Pattern.compile(
+            "\\b(train_info|confusion_matrix|example_img|layer_params|feature_activation|activation_maximization)\\b");
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+        EmbeddedRedis.register(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataRegistry dataRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long modelVersionId;
+
+    private Long untrainedVersionId;
+
+    @BeforeEach
+    void setUp() {
+        User user = TestFixtures.user(entityManager);
+        Data data = TestFixtures.mnist(entityManager, dataRegistry);
+
+        // 페이지 크기보다 많은 모델 (모델 수에 비례해 쿼리가 늘면 상한을 넘음)
+        for (int i = 0; i < 15; i++) {
+            Model model = TestFixtures.model(entityManager, user, data, "query-budget-" + i, 1);
+            ModelVersion modelVersion = TestFixtures.version(entityManager, model, 1);
+            TestFixtures.result(entityManager, modelVersion, "{}");
+            modelVersionId = modelVersion.getId();
+        }
+
+        // 학습 결과가 없는 버전 (코드 조회 시 레이어로 코드를 생성)
+        Model untrained = TestFixtures.model(entityManager, user, data, "untrained", 1);
+        untrainedVersionId = TestFixtures.version(entityManager, untrained, 1).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void galleryReadsPageAndCountOnly() throws Exception {
+        assertQueryBudget("/api/v1/models/public?size=12", 2);
+        assertQueryBudget("/api/v1/models/public?size=12&dataName=MNIST", 2);
+    }
+
+    @Test
+    void versionDetailLoadsModelAndResultWithVersion() throws Exception {
+        assertQueryBudget("/api/v1/models/versions/public/" + modelVersionId, 2);
+    }
+
+    @Test
+    void versionSummaryDoesNotSelectBlobColumns() throws Exception {
+        List<String> statements = assertQueryBudget("/api/v1/models/versions/public/" + modelVersionId + "?fields=summary", 3);
+
+        assertThat(statements).isNotEmpty();
+        assertThat(statements).noneMatch(sql -> BLOB_COLUMNS.matcher(sql).find());
+    }
+
+    @Test
+    void versionCodeDoesNotLoadRelations() throws Exception {
+        assertQueryBudget("/api/v1/models/versions/public/" + modelVersionId + "/code", 2);
+    }
+
+    @Test
+    void untrainedVersionCodeIsGeneratedWithinBudget() throws Exception {
+        assertQueryBudget("/api/v1/models/versions/public/" + untrainedVersionId + "/code", 2);
+    }
+
+    // 요청 중 실행된 SELECT 문을 반환
+    private List<String> assertQueryBudget(String path, int budget) throws Exception {
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+        MvcResult result = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String count = result.getResponse().getHeader(QueryInspectionFilter.QUERY_COUNT_HEADER);
+        assertThat(count).as("%s 쿼리 수 헤더", path).isNotNull();
+        assertThat(Integer.parseInt(count)).as("%s 쿼리 수", path).isLessThanOrEqualTo(budget);
+        return new ArrayList<>(CapturingStatementInspector.STATEMENTS);
+    }
+}
@@ -0,0 +1,24 @@
+package com.scv.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate 가 실행하는 SELECT 문을 모아두는 StatementInspector (생성된 SQL 을 직접 검사하는 테스트용)
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 에 클래스 이름으로 등록
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    public static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        if (sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,51 @@
+package com.scv.support;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * 테스트용 내장 MariaDB (부하 테스트와 같은 MariaDB4j, Docker 불필요)
+ * JVM 당 한 번 기동해 여러 테스트 클래스가 공유 (MariaDB4j 가 JVM 종료 시 정지)
+ */
+public final class EmbeddedMariaDb {
+
+    private static final String DATABASE_NAME = "scv";
+
+    private static String jdbcUrl;
+
+    private EmbeddedMariaDb() {
+    }
+
+    /**
+     * 앱과 같은 MySQL 드라이버로 접속하도록 데이터소스 설정 (스키마는 Flyway 가 생성)
+     */
+    public static void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", EmbeddedMariaDb::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    public static synchronized String jdbcUrl() {
+        if (jdbcUrl == null) {
+            jdbcUrl = start();
+        }
+        return jdbcUrl;
+    }
+
+    private static String start() {
+        try {
+            DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+            config.setPort(0);
+            // root 계정으로 실행되는 CI / 컨테이너에서도 기동되도록
+            config.addArg("--user=" + System.getProperty("user.name"));
+            DB database = DB.newEmbeddedDB(config.build());
+            database.start();
+            database.createDB(DATABASE_NAME);
+            return "jdbc:mysql://localhost:" + config.getPort() + "/" + DATABASE_NAME + "?useSSL=false&allowPublicKeyRetrieval=true";
+        } catch (ManagedProcessException e) {
+            throw new IllegalStateException("내장 MariaDB 기동 실패", e);
+        }
+    }
+}
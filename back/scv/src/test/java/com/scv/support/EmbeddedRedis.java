@@ -0,0 +1,63 @@
+package com.scv.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+/**
+ * 테스트용 내장 Redis (부하 테스트와 같은 embedded-redis)
+ * 인스턴스 하나로 access / refresh / oauth 토큰 저장소를 모두 대신함, JVM 당 한 번 기동해 공유
+ */
+public final class EmbeddedRedis {
+
+    private static final List<String> NODES = List.of(
+            "access.master", "access.slaves[0]", "access.slaves[1]", "access.slaves[2]", "refresh", "oauth");
+
+    private static Integer port;
+
+    private EmbeddedRedis() {
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        for (String node : NODES) {
+            String prefix = "spring.data.redis.token." + node;
+            registry.add(prefix + ".host", () -> "localhost");
+            registry.add(prefix + ".port", EmbeddedRedis::port);
+            registry.add(prefix + ".password", () -> "");
+        }
+    }
+
+    public static synchronized int port() {
+        if (port == null) {
+            port = start();
+        }
+        return port;
+    }
+
+    private static int start() {
+        try {
+            int freePort;
+            try (ServerSocket socket = new ServerSocket(0)) {
+                freePort = socket.getLocalPort();
+            }
+            RedisServer server = new RedisServer(freePort);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> stop(server)));
+            return freePort;
+        } catch (IOException e) {
+            throw new UncheckedIOException("내장 Redis 기동 실패", e);
+        }
+    }
+
+    private static void stop(RedisServer server) {
+        try {
+            server.stop();
+        } catch (IOException ignored) {
+            // JVM 종료 중이므로 무시
+        }
+    }
+}
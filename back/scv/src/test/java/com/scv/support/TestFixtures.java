@@ -0,0 +1,79 @@
+package com.scv.support;
+
+import com.scv.domain.data.domain.Data;
+import com.scv.domain.data.enums.DataSet;
+import com.scv.domain.data.service.DataRegistry;
+import com.scv.domain.model.domain.Model;
+import com.scv.domain.result.domain.Result;
+import com.scv.domain.user.domain.User;
+import com.scv.domain.version.domain.ModelVersion;
+import com.scv.global.json.CompressedJson;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 통합 테스트 공통 엔티티 (사용자 -> 모델 -> 버전 -> 결과), 넘겨받은 EntityManager 로 바로 persist
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static User user(EntityManager entityManager) {
+        String uuid = UUID.randomUUID().toString();
+        User user = User.builder()
+                .userUuid(uuid)
+                .userEmail(uuid + "@scv.test")
+                .userImageUrl("https://scv.test/image.png")
+                .userNickname("tester")
+                .userCreatedAt(LocalDateTime.now())
+                .userUpdatedAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    // data 행은 DataRegistry 에서 id 만 가져와 프록시로 참조
+    public static Data mnist(EntityManager entityManager, DataRegistry dataRegistry) {
+        return entityManager.getReference(Data.class, dataRegistry.get(DataSet.MNIST).getId());
+    }
+
+    public static Model model(EntityManager entityManager, User user, Data data, String name, int latestVersion) {
+        Model model = Model.builder()
+                .user(user)
+                .data(data)
+                .name(name)
+                .latestVersion(latestVersion)
+                .accuracy(0.9)
+                .build();
+        entityManager.persist(model);
+        return model;
+    }
+
+    public static ModelVersion version(EntityManager entityManager, Model model, int versionNo) {
+        ModelVersion modelVersion = ModelVersion.builder()
+                .model(model)
+                .versionNo(versionNo)
+                .layers("[]")
+                .isWorkingOn(false)
+                .build();
+        entityManager.persist(modelVersion);
+        return modelVersion;
+    }
+
+    public static Result result(EntityManager entityManager, ModelVersion modelVersion, String trainInfo) {
+        Result result = Result.builder()
+                .modelVersion(modelVersion)
+                .code("\"\"")
+                .testAccuracy(0.9)
+                .testLoss(0.1)
+                .layerParams(CompressedJson.of("[]"))
+                .trainInfo(CompressedJson.of(trainInfo))
+                .totalParams(0)
+                .build();
+        entityManager.persist(result);
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+import torch
+import torch.nn as nn
+
+# 모델 이름: model_1_v2
+# 데이터셋: MNIST
+# 학습 데이터 수: 60000
+# 테스트 데이터 수: 10000
+# 레이블 수: 10
+# 에폭 수: 10
+
+class Model(nn.Module):
+    def __init__(self):
+        super().__init__()
+
+        self.layer0 = nn.ConvTranspose2d(in_channels=8, out_channels=1, kernel_size=(3, 3), stride=(1, 1), padding=(0, 0), dilation=(1, 1), groups=1, padding_mode='zeros', bias=True)
+
+    def forward(self, x):
+        # Input shape: [batch_size, channels, height, width]
+        x = self.layer0(x)
+        return x
+
+if __name__ == '__main__':
+    # 모델 인스턴스 생성
+    model = Model()
+    print('모델 구조:')
+    print(model)
+    
+    # 입력 텐서 예제
+    batch_size = 1  # 배치 크기
+    channels = 1  # 입력 채널 수
+    height = 28  # 입력 높이
+    width = 28  # 입력 너비
+    x = torch.randn(batch_size, channels, height, width)
+    
+    # 순전파 실행
+    output = model(x)
+    print(f'입력 shape: {x.shape}')
+    print(f'출력 shape: {output.shape}')
\ No newline at end of file
@@ -0,0 +1,166 @@
+"""
+ModelCodeGeneratorTest 기대값 생성 스크립트
+학습 서버의 model_code_generator.py 로 레이어 종류별 코드를 생성해 <레이어 이름>.py 로 저장
+
+    python3 generate_golden.py
+
+torch 가 설치되어 있으면 실제 nn 모듈을 사용하고, 없으면 생성기가 읽는 속성만 torch 생성자와 같게 채운 대체 모듈을 사용
+케이스를 바꾸면 ModelCodeGeneratorTest 의 레이어 구성도 같이 바꿀 것
+"""
+import importlib.util
+import sys
+import types
+from pathlib import Path
+
+HERE = Path(__file__).resolve().parent
+GENERATOR = HERE.parents[5] / "ai/fastapi/model_train/neural_network_builder/builders/model_code_generator.py"
+
+MODEL_NAME = "model_1_v2"
+DATASET_INFO = {
+    "dataName": "MNIST",
+    "dataTrainCnt": 60000,
+    "dataTestCnt": 10000,
+    "dataLabelCnt": 10,
+    "dataEpochCnt": 10,
+}
+
+
+def stub_torch():
+    """torch 없이 실행할 때 사용하는 최소 nn (생성기가 읽는 속성만, 값은 torch 생성자와 동일)"""
+
+    def pair(value):
+        return value if isinstance(value, tuple) else (value, value)
+
+    class Module:
+        def named_children(self):
+            return iter(getattr(self, "_children", {}).items())
+
+    class Sequential(Module):
+        def __init__(self, *layers):
+            self._children = {str(i): layer for i, layer in enumerate(layers)}
+
+    class _ConvNd(Module):
+        def __init__(self, in_channels, out_channels, kernel_size, stride=1, padding=0,
+                     dilation=1, groups=1, bias=True, padding_mode="zeros"):
+            self.in_channels = in_channels
+            self.out_channels = out_channels
+            self.kernel_size = pair(kernel_size)
+            self.stride = pair(stride)
+            self.padding = pair(padding)
+            self.dilation = pair(dilation)
+            self.groups = groups
+            self.padding_mode = padding_mode
+            self.bias = object() if bias else None
+
+    class _PoolNd(Module):
+        def __init__(self, kernel_size, stride=None, padding=0):
+            self.kernel_size = kernel_size
+            self.stride = stride if stride is not None else kernel_size
+            self.padding = padding
+
+    class _Padding(Module):
+        def __init__(self, padding, value=0.0):
+            pass
+
+    class _Activation(Module):
+        def __init__(self, *args, **kwargs):
+            pass
+
+    class Linear(Module):
+        def __init__(self, in_features, out_features, bias=True):
+            self.in_features = in_features
+            self.out_features = out_features
+            self.bias = object() if bias else None
+
+    class LeakyReLU(Module):
+        def __init__(self, negative_slope=0.01, inplace=False):
+            self.negative_slope = negative_slope
+
+    class ELU(Module):
+        def __init__(self, alpha=1.0, inplace=False):
+            self.alpha = alpha
+
+    class PReLU(Module):
+        def __init__(self, num_parameters=1, init=0.25):
+            self.num_parameters = num_parameters
+
+    class _Softmax(Module):
+        def __init__(self, dim=None):
+            self.dim = dim
+
+    class Flatten(Module):
+        def __init__(self, start_dim=1, end_dim=-1):
+            self.start_dim = start_dim
+            self.end_dim = end_dim
+
+    nn = types.ModuleType("torch.nn")
+    nn.Module = Module
+    nn.Sequential = Sequential
+    nn.Linear = Linear
+    nn.LeakyReLU = LeakyReLU
+    nn.ELU = ELU
+    nn.PReLU = PReLU
+    nn.Flatten = Flatten
+    for name in ("Conv2d", "ConvTranspose2d"):
+        setattr(nn, name, type(name, (_ConvNd,), {}))
+    for name in ("MaxPool2d", "AvgPool2d"):
+        setattr(nn, name, type(name, (_PoolNd,), {}))
+    for name in ("ReflectionPad2d", "ReplicationPad2d", "ZeroPad2d", "ConstantPad2d"):
+        setattr(nn, name, type(name, (_Padding,), {}))
+    for name in ("ReLU", "Sigmoid", "Tanh", "GELU"):
+        setattr(nn, name, type(name, (_Activation,), {}))
+    for name in ("Softmax", "LogSoftmax"):
+        setattr(nn, name, type(name, (_Softmax,), {}))
+
+    torch = types.ModuleType("torch")
+    torch.nn = nn
+    sys.modules["torch"] = torch
+    sys.modules["torch.nn"] = nn
+
+
+def load_generator():
+    try:
+        import torch  # noqa: F401
+    except ImportError:
+        stub_torch()
+    spec = importlib.util.spec_from_file_location("model_code_generator", GENERATOR)
+    module = importlib.util.module_from_spec(spec)
+    spec.loader.exec_module(module)
+    return module.ModelCodeGenerator()
+
+
+def cases(nn):
+    # layer_builder.py 와 같은 인자로 생성 (MaxPool2d / AvgPool2d 의 stride 생략 = None)
+    return {
+        "Conv2d": nn.Conv2d(in_channels=1, out_channels=8, kernel_size=3),
+        "ConvTranspose2d": nn.ConvTranspose2d(in_channels=8, out_channels=1, kernel_size=3),
+        "MaxPool2d": nn.MaxPool2d(kernel_size=2, stride=2),
+        "AvgPool2d": nn.AvgPool2d(kernel_size=3, stride=None),
+        "ReflectionPad2d": nn.ReflectionPad2d(padding=2),
+        "ReplicationPad2d": nn.ReplicationPad2d(padding=1),
+        "ZeroPad2d": nn.ZeroPad2d(padding=1),
+        "ConstantPad2d": nn.ConstantPad2d(padding=1, value=0.5),
+        "ReLU": nn.ReLU(inplace=False),
+        "LeakyReLU": nn.LeakyReLU(negative_slope=1e-05),
+        "ELU": nn.ELU(alpha=1.0),
+        "PReLU": nn.PReLU(num_parameters=1, init=0.25),
+        "Sigmoid": nn.Sigmoid(),
+        "Tanh": nn.Tanh(),
+        "Softmax": nn.Softmax(dim=1),
+        "LogSoftmax": nn.LogSoftmax(dim=1),
+        "GELU": nn.GELU(),
+        "Linear": nn.Linear(in_features=784, out_features=10),
+        "Flatten": nn.Flatten(),
+    }
+
+
+def main():
+    generator = load_generator()
+    nn = sys.modules["torch.nn"]
+    for name, layer in cases(nn).items():
+        code = generator.generate_model_code(nn.Sequential(layer), MODEL_NAME, DATASET_INFO)
+        (HERE / f"{name}.py").write_text(code, encoding="utf-8")
+
+
+if __name__ == "__main__":
+    main()